@@ -0,0 +1,217 @@
+package com.epam.training.spring_boot_epam.repository.impl;
+
+import com.epam.training.spring_boot_epam.domain.Trainee;
+import com.epam.training.spring_boot_epam.domain.Trainer;
+import com.epam.training.spring_boot_epam.domain.Training;
+import com.epam.training.spring_boot_epam.domain.TrainingType;
+import com.epam.training.spring_boot_epam.domain.User;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingCursor;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
+import com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO;
+import com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.jdbc.connections.internal.UserSuppliedConnectionProviderImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Preparing a filtered, keyset-paged training history search the way the DAOs used to
+ * ({@code *PerRequest}: JPQL built in a StringBuilder for trainees, a Criteria query for
+ * trainers) against picking a shape precompiled by {@link TrainingSearchQuery}
+ * ({@code *Precompiled}). The engines are declared like the ones in {@link TraineeDaoImpl} and
+ * {@link TrainerDaoImpl}. Only query preparation is measured; Hibernate boots against the
+ * mapping alone and never opens a connection. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TrainingSearchQueryBenchmark {
+
+    private static final String TRAINEE_SELECT = """
+            SELECT new com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO(
+                t.id, tru.firstName, t.trainingName, tt.trainingTypeName, t.trainingDateTime, t.trainingDurationInMinutes)
+            FROM Training t
+            JOIN t.trainee te
+            JOIN te.user teu
+            JOIN t.trainer tr
+            JOIN tr.user tru
+            LEFT JOIN t.trainingType tt
+            WHERE teu.username = :username
+            """;
+
+    private static final TrainingSearchQuery<TraineeFilterResponseDTO> TRAINEE_SEARCH = new TrainingSearchQuery<>(
+            "Benchmark.traineeSearch", TraineeFilterResponseDTO.class, TRAINEE_SELECT,
+            List.of(
+                    TrainingSearchQuery.filter("fromDate", "t.trainingDateTime >= :fromDate", TrainingSearch::fromDate),
+                    TrainingSearchQuery.filter("toDate", "t.trainingDateTime <= :toDate", TrainingSearch::toDate),
+                    TrainingSearchQuery.filter("trainerName", "LOWER(tru.firstName) LIKE :trainerName", TrainingSearch::counterpartNamePattern),
+                    TrainingSearchQuery.filter("trainingType", "tt.trainingTypeName = :trainingType", TrainingSearch::trainingType)));
+
+    private static final TrainingSearchQuery<TrainerFilterResponseDTO> TRAINER_SEARCH = new TrainingSearchQuery<>(
+            "Benchmark.trainerSearch", TrainerFilterResponseDTO.class, """
+                    SELECT new com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO(
+                        t.id, teu.firstName, t.trainingName, COALESCE(tt.trainingTypeName, ''), t.trainingDateTime, t.trainingDurationInMinutes)
+                    FROM Training t
+                    JOIN t.trainer tr
+                    JOIN tr.user tru
+                    JOIN t.trainee te
+                    JOIN te.user teu
+                    LEFT JOIN t.trainingType tt
+                    WHERE tru.username = :username
+                    """,
+            List.of(
+                    TrainingSearchQuery.filter("fromDate", "t.trainingDateTime >= :fromDate", TrainingSearch::fromDate),
+                    TrainingSearchQuery.filter("toDate", "t.trainingDateTime <= :toDate", TrainingSearch::toDate),
+                    TrainingSearchQuery.filter("traineeName", "LOWER(teu.firstName) LIKE :traineeName", TrainingSearch::counterpartNamePattern)));
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private TrainingSearch traineeSearch;
+    private TrainingSearch trainerSearch;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Trainee.class)
+                .addAnnotatedClass(Trainer.class)
+                .addAnnotatedClass(Training.class)
+                .addAnnotatedClass(TrainingType.class)
+                .setProperty(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+                .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false")
+                .setProperty(AvailableSettings.CONNECTION_PROVIDER, UserSuppliedConnectionProviderImpl.class.getName())
+                .buildSessionFactory();
+        TRAINEE_SEARCH.precompile(sessionFactory);
+        TRAINER_SEARCH.precompile(sessionFactory);
+        entityManager = sessionFactory.createEntityManager();
+
+        String cursor = new TrainingCursor(LocalDateTime.of(2024, 6, 1, 10, 0), 4242L).encode();
+        traineeSearch = new TrainingSearch("anna.smith", LocalDateTime.of(2024, 1, 1, 0, 0), null, "ann",
+                "Yoga", TrainingPageRequest.of(cursor, Sort.Direction.DESC, 20));
+        trainerSearch = new TrainingSearch("john.kim", LocalDateTime.of(2024, 1, 1, 0, 0), null, "smith",
+                null, TrainingPageRequest.of(cursor, Sort.Direction.DESC, 20));
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public TypedQuery<TraineeFilterResponseDTO> traineePerRequest() {
+        TrainingSearch search = traineeSearch;
+        StringBuilder jpql = new StringBuilder(TRAINEE_SELECT);
+        if (search.fromDate() != null) {
+            jpql.append(" AND t.trainingDateTime >= :fromDate");
+        }
+        if (search.toDate() != null) {
+            jpql.append(" AND t.trainingDateTime <= :toDate");
+        }
+        if (search.counterpartName() != null) {
+            jpql.append(" AND LOWER(tru.firstName) LIKE :trainerName");
+        }
+        if (search.trainingType() != null) {
+            jpql.append(" AND tt.trainingTypeName = :trainingType");
+        }
+        TrainingPageRequest page = search.page();
+        String direction = page.descending() ? "DESC" : "ASC";
+        String comparator = page.descending() ? "<" : ">";
+        jpql.append(" AND (t.trainingDateTime ").append(comparator).append(" :cursorDateTime")
+                .append(" OR (t.trainingDateTime = :cursorDateTime AND t.id ").append(comparator).append(" :cursorId))")
+                .append(" ORDER BY t.trainingDateTime ").append(direction).append(", t.id ").append(direction);
+
+        TypedQuery<TraineeFilterResponseDTO> query = entityManager.createQuery(jpql.toString(), TraineeFilterResponseDTO.class);
+        query.setParameter("username", search.username());
+        query.setParameter("fromDate", search.fromDate());
+        query.setParameter("trainerName", search.counterpartNamePattern());
+        query.setParameter("trainingType", search.trainingType());
+        query.setParameter("cursorDateTime", page.after().trainingDateTime());
+        query.setParameter("cursorId", page.after().id());
+        return query.setMaxResults(page.limit() + 1);
+    }
+
+    @Benchmark
+    public TypedQuery<TraineeFilterResponseDTO> traineePrecompiled() {
+        return TRAINEE_SEARCH.create(entityManager, traineeSearch);
+    }
+
+    @Benchmark
+    public TypedQuery<TrainerFilterResponseDTO> trainerPerRequest() {
+        TrainingSearch search = trainerSearch;
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TrainerFilterResponseDTO> cq = cb.createQuery(TrainerFilterResponseDTO.class);
+        Root<Training> root = cq.from(Training.class);
+        Join<Training, Trainer> trainerJoin = root.join("trainer");
+        Join<Trainer, User> trainerUserJoin = trainerJoin.join("user");
+        Join<Training, Trainee> traineeJoin = root.join("trainee");
+        Join<Trainee, User> traineeUserJoin = traineeJoin.join("user");
+        Join<Training, TrainingType> trainingTypeJoin = root.join("trainingType", JoinType.LEFT);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(trainerUserJoin.get("username"), search.username()));
+        if (search.fromDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("trainingDateTime"), search.fromDate()));
+        }
+        if (search.toDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("trainingDateTime"), search.toDate()));
+        }
+        if (search.counterpartName() != null) {
+            predicates.add(cb.like(cb.lower(traineeUserJoin.get("firstName")), search.counterpartNamePattern()));
+        }
+        TrainingPageRequest page = search.page();
+        Path<LocalDateTime> dateTime = root.get("trainingDateTime");
+        Path<Long> id = root.get("id");
+        LocalDateTime cursorDateTime = page.after().trainingDateTime();
+        Long cursorId = page.after().id();
+        predicates.add(page.descending()
+                ? cb.or(cb.lessThan(dateTime, cursorDateTime),
+                        cb.and(cb.equal(dateTime, cursorDateTime), cb.lessThan(id, cursorId)))
+                : cb.or(cb.greaterThan(dateTime, cursorDateTime),
+                        cb.and(cb.equal(dateTime, cursorDateTime), cb.greaterThan(id, cursorId))));
+
+        cq.select(cb.construct(TrainerFilterResponseDTO.class,
+                        root.get("id"),
+                        traineeUserJoin.get("firstName"),
+                        root.get("trainingName"),
+                        cb.coalesce(trainingTypeJoin.<String>get("trainingTypeName"), ""),
+                        root.get("trainingDateTime"),
+                        root.get("trainingDurationInMinutes")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(page.descending()
+                        ? List.of(cb.desc(root.get("trainingDateTime")), cb.desc(root.get("id")))
+                        : List.of(cb.asc(root.get("trainingDateTime")), cb.asc(root.get("id"))));
+        return entityManager.createQuery(cq)
+                .setMaxResults(page.limit() + 1);
+    }
+
+    @Benchmark
+    public TypedQuery<TrainerFilterResponseDTO> trainerPrecompiled() {
+        return TRAINER_SEARCH.create(entityManager, trainerSearch);
+    }
+}
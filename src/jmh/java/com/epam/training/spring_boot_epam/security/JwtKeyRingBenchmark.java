@@ -0,0 +1,91 @@
+package com.epam.training.spring_boot_epam.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sign and verify throughput of the old per-call key decoding and parser building
+ * ({@code legacy*}) against {@link JwtKeyRing} ({@code keyRing*}).
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JwtKeyRingBenchmark {
+
+    private static final String SECRET = "eyJhbGciOiJIUzUxMiJ9eyJSb2xlIjoiQWRtaW4iLCJJc3N1ZXIiOiJJc3N1ZXIiLCJVc2VybmFtZSI6IkphdmFJblVzZSIsImV4cCIMTcaqNDQ2ODA4MCwiaWF0IjoxNzA0NDY4MDgwfQLtk5Easw";
+    private static final String ROTATED_SECRET = "c2VjcmV0LWtleS11c2VkLW9ubHktdG8tcG9wdWxhdGUtdGhlLXJpbmctaW4tdGhlLWJlbmNobWFyay1hbmQtbG9uZy1lbm91Z2gtZm9yLWhzNTEy";
+
+    private JwtKeyRing keyRing;
+    private String legacyToken;
+    private String keyRingToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSigningKeyId("current");
+        properties.setKeys(List.of(key("previous", ROTATED_SECRET), key("current", SECRET)));
+        keyRing = new JwtKeyRing(properties);
+
+        legacyToken = legacySign();
+        keyRingToken = keyRingSign();
+    }
+
+    @Benchmark
+    public String legacySign() {
+        return Jwts.builder()
+                .subject("John.Doe")
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .signWith(legacyKey(), Jwts.SIG.HS512)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims legacyVerify() {
+        return Jwts.parser()
+                .verifyWith(legacyKey())
+                .build()
+                .parseSignedClaims(legacyToken)
+                .getPayload();
+    }
+
+    @Benchmark
+    public String keyRingSign() {
+        return keyRing.signer()
+                .subject("John.Doe")
+                .expiration(new Date(System.currentTimeMillis() + 3_600_000))
+                .compact();
+    }
+
+    @Benchmark
+    public Claims keyRingVerify() {
+        return keyRing.parse(keyRingToken);
+    }
+
+    private static SecretKey legacyKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+
+    private static JwtProperties.Key key(String id, String secret) {
+        JwtProperties.Key key = new JwtProperties.Key();
+        key.setId(id);
+        key.setSecret(secret);
+        return key;
+    }
+}
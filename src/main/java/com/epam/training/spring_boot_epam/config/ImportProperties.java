@@ -0,0 +1,35 @@
+package com.epam.training.spring_boot_epam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "imports")
+public class ImportProperties {
+
+    /** Rows validated, hashed and inserted together; one JDBC batch flush and one transaction per chunk. */
+    private int chunkSize = 500;
+
+    /** Imports processed at the same time; hashing already fans out across cores inside each one. */
+    private int workerThreads = 1;
+
+    /** Accepted imports waiting for a worker before new ones are rejected with 429. */
+    private int queueCapacity = 4;
+
+    /** Largest request body spooled to disk for a single import. */
+    private DataSize maxUploadSize = DataSize.ofMegabytes(100);
+
+    /** Per-row errors kept on a job; later failures are still counted but not listed. */
+    private int maxReportedErrors = 1000;
+
+    /** How long a finished job, and any credentials not yet collected, stays queryable. */
+    private Duration jobRetention = Duration.ofHours(1);
+
+    /** Finished jobs kept for lookup; queued and running jobs are never evicted. */
+    private int maxJobs = 1000;
+}
@@ -0,0 +1,20 @@
+package com.epam.training.spring_boot_epam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trainees.purge")
+public class TraineePurgeProperties {
+
+    /**
+     * Schedule of the deactivated trainee purge. Deletion is permanent, so the default "-"
+     * keeps the job switched off until a deployment opts in.
+     */
+    private String cron = "-";
+
+    /** Trainees removed per transaction; bounds lock time and the size of the IN lists. */
+    private int batchSize = 200;
+}
@@ -2,16 +2,17 @@ package com.epam.training.spring_boot_epam.controller;
 
 import com.epam.training.spring_boot_epam.dto.request.AuthLoginRequest;
 import com.epam.training.spring_boot_epam.dto.request.PasswordChangeRequest;
+import com.epam.training.spring_boot_epam.dto.request.RefreshTokenRequest;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
 import com.epam.training.spring_boot_epam.dto.response.TokenResponse;
-import com.epam.training.spring_boot_epam.exception.TooManyRequestsException;
+import com.epam.training.spring_boot_epam.security.LoginRateLimiter;
 import com.epam.training.spring_boot_epam.security.service.AuthService;
-import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -22,20 +23,24 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
-    private final RateLimiter rateLimiter;
+    private final LoginRateLimiter loginRateLimiter;
 
     @Operation(summary = "Login endpoint", description = "Returns a login token")
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody AuthLoginRequest authDTO) {
-        if(!authDTO.getUsername().contains("test")){
-            if (!rateLimiter.acquirePermission()) {
-                throw new TooManyRequestsException("Juda ko'p so'rov yubordingiz, 5 daqiqadan keyuin urinib ko'ring !");
-            }
-        }
+    public ResponseEntity<ApiResponse<TokenResponse>> login(@Valid @RequestBody AuthLoginRequest authDTO,
+                                                            HttpServletRequest request) {
+        // the client address resolved from trusted forwarded headers (server.forward-headers-strategy), not the proxy's
+        loginRateLimiter.acquire(authDTO.getUsername(), request.getRemoteAddr());
 
         return new ResponseEntity<>(authService.login(authDTO), HttpStatus.OK);
     }
 
+    @Operation(summary = "Refresh endpoint", description = "Exchanges a refresh token for a new token pair")
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenResponse>> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return new ResponseEntity<>(authService.refresh(request), HttpStatus.OK);
+    }
+
     @Operation(summary = "Logout endpoint")
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(@Valid @RequestHeader("Authorization") String token) {
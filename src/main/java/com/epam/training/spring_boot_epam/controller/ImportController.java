@@ -0,0 +1,64 @@
+package com.epam.training.spring_boot_epam.controller;
+
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportFormat;
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportType;
+import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
+import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.dto.response.ImportJobDTO;
+import com.epam.training.spring_boot_epam.service.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Bulk imports create accounts and hand out their credentials, so every endpoint is admin-only
+ * regardless of which profile's filter chain is active.
+ */
+@RestController
+@PreAuthorize("hasRole('ADMIN')")
+@RequestMapping("/v1/imports")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+
+    /**
+     * Accepts a CSV (with header row) or NDJSON upload of trainees, trainers or trainings and
+     * answers 202 once it is stored; the job resource in {@code Location} reports progress.
+     */
+    @PostMapping(value = "/{type}", consumes = {ImportFormat.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<ImportJobDTO>> submit(@PathVariable("type") String type,
+                                                            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                            InputStream body) throws IOException {
+        ApiResponse<ImportJobDTO> response = bulkImportService.submit(ImportType.fromPath(type), ImportFormat.of(contentType), body);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentServletMapping()
+                        .path("/v1/imports/{id}")
+                        .buildAndExpand(response.getData().getId())
+                        .toUri())
+                .body(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<ImportJobDTO>> getJob(@PathVariable("id") String id) {
+        return ResponseEntity.ok(bulkImportService.getJob(id));
+    }
+
+    @GetMapping("/{id}/credentials")
+    public ResponseEntity<ApiResponse<List<AuthDTO>>> collectCredentials(@PathVariable("id") String id) {
+        return ResponseEntity.ok(bulkImportService.collectCredentials(id));
+    }
+}
@@ -8,12 +8,14 @@ import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
 import com.epam.training.spring_boot_epam.dto.request.TraineeCreateDTO;
 import com.epam.training.spring_boot_epam.dto.request.TraineeTrainersUpdate;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.dto.response.CursorPage;
 import com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO;
 import com.epam.training.spring_boot_epam.service.TraineeService;
 import com.epam.training.spring_boot_epam.service.TrainingService;
 import com.epam.training.spring_boot_epam.util.DomainUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import jakarta.validation.Valid;
@@ -30,6 +32,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
 @RestController
@@ -49,29 +52,38 @@ public class TraineeController {
 
     @GetMapping("/{username}")
     public ResponseEntity<ApiResponse<TraineeDTO>> getTraineeByUsername(@PathVariable String username) {
-        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().getPassword(), domainUtils.getCurrentUser().getId());
+        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().id());
 
         ApiResponse<TraineeDTO> response = traineeService.getProfile(username);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
     @GetMapping("/trainings")
-    public ResponseEntity<ApiResponse<List<TraineeFilterResponseDTO>>> getTraineeTrainings(@Valid @RequestBody TraineeTrainingsFilter filter){
-        ApiResponse<List<TraineeFilterResponseDTO>> response = trainingService.getTraineeTrainings(filter);
+    public ResponseEntity<ApiResponse<CursorPage<TraineeFilterResponseDTO>>> getTraineeTrainings(@Valid @RequestBody TraineeTrainingsFilter filter){
+        ApiResponse<CursorPage<TraineeFilterResponseDTO>> response = trainingService.getTraineeTrainings(filter);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @GetMapping(value = "/trainings/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTraineeTrainings(@Valid @RequestBody TraineeTrainingsFilter filter) {
+        // checked here, before the response is committed; the body itself runs after the status is sent
+        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), filter.getUsername());
+
+        StreamingResponseBody body = out -> trainingService.streamTraineeTrainings(filter, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @PutMapping("")
     public ResponseEntity<ApiResponse<TraineeDTO>> updateTrainee(@Valid @RequestBody TraineeDTO traineeDTO) {
-        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().getPassword(), domainUtils.getCurrentUser().getId());
+        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().id());
 
-        ApiResponse<TraineeDTO> response = traineeService.updateProfile(traineeDTO, domainUtils.getCurrentUser().getId());
+        ApiResponse<TraineeDTO> response = traineeService.updateProfile(traineeDTO, domainUtils.getCurrentUser().id());
         return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
     }
 
     @PutMapping("/{username}/trainers")
     public ResponseEntity<ApiResponse<Void>> updateTraineeTrainers(@Valid @RequestBody TraineeTrainersUpdate trainersUpdate, @PathVariable String username) {
-        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().getPassword(), username);
+        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), username);
 
         ApiResponse<Void> response = traineeService.updateTraineeTrainers(trainersUpdate, username);
         return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
@@ -79,7 +91,7 @@ public class TraineeController {
 
     @DeleteMapping("/delete")
     public ResponseEntity<ApiResponse<Void>> deleteTrainee(@RequestParam String username) {
-        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().getPassword(), username);
+        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), username);
 
         ApiResponse<Void> response = traineeService.deleteTraineeProfile(username);
         return new ResponseEntity<>(response, HttpStatus.NO_CONTENT);
@@ -87,7 +99,7 @@ public class TraineeController {
 
     @PatchMapping
     public ResponseEntity<ApiResponse<Void>> activateOrDeactivate(@Valid @RequestBody ActivateDeactiveRequest request) {
-        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().getPassword(), request.getUsername());
+        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), request.getUsername());
 
         ApiResponse<Void> response = traineeService.activateOrDeactivate(request);
         return new ResponseEntity<>(response, HttpStatus.OK);
@@ -95,7 +107,7 @@ public class TraineeController {
 
     @GetMapping("/not-assigned")
     public ResponseEntity<ApiResponse<List<TrainerDTO>>> getNotAssignedActiveTrainers(@RequestParam String username) {
-        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().getPassword(), username);
+        traineeService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), username);
 
         ApiResponse<List<TrainerDTO>> response = traineeService.getNotAssignedActiveTrainers(username);
         return new ResponseEntity<>(response, HttpStatus.OK);
@@ -6,12 +6,14 @@ import com.epam.training.spring_boot_epam.dto.request.ActivateDeactiveRequest;
 import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
 import com.epam.training.spring_boot_epam.dto.request.TrainerCreateDTO;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.dto.response.CursorPage;
 import com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO;
 import com.epam.training.spring_boot_epam.service.TrainerService;
 import com.epam.training.spring_boot_epam.service.TrainingService;
 import com.epam.training.spring_boot_epam.util.DomainUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,9 +26,9 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/v1/trainers")
@@ -45,7 +47,7 @@ public class TrainerController {
 
     @GetMapping("/{username}")
     public ResponseEntity<ApiResponse<TrainerDTO>> getTrainerByUsername(@PathVariable String username) {
-        trainerService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().getPassword(), username);
+        trainerService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), username);
 
         ApiResponse<TrainerDTO> response = trainerService.getProfile(username);
         return new ResponseEntity<>(response, HttpStatus.OK);
@@ -53,22 +55,30 @@ public class TrainerController {
 
     @PreAuthorize("hasRole('TRAINER')")
     @GetMapping("/trainings")
-    public ResponseEntity<ApiResponse<List<TrainerFilterResponseDTO>>> getTrainerTrainings(@Valid @RequestBody TrainerTrainingsFilter filter){
-        ApiResponse<List<TrainerFilterResponseDTO>> response = trainingService.getTrainerTrainings(filter);
+    public ResponseEntity<ApiResponse<CursorPage<TrainerFilterResponseDTO>>> getTrainerTrainings(@Valid @RequestBody TrainerTrainingsFilter filter){
+        ApiResponse<CursorPage<TrainerFilterResponseDTO>> response = trainingService.getTrainerTrainings(filter);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @PreAuthorize("hasRole('TRAINER')")
+    @GetMapping(value = "/trainings/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTrainerTrainings(@Valid @RequestBody TrainerTrainingsFilter filter) {
+        String trainerUsername = domainUtils.getCurrentUser().getUsername();
+        StreamingResponseBody body = out -> trainingService.streamTrainerTrainings(filter, trainerUsername, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     @PutMapping("")
     public ResponseEntity<ApiResponse<TrainerDTO>> updateTrainer(@Valid @RequestBody TrainerDTO trainerDTO) {
-        trainerService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().getPassword(), domainUtils.getCurrentUser().getId());
+        trainerService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().id());
 
-        ApiResponse<TrainerDTO> response = trainerService.updateProfile(trainerDTO, domainUtils.getCurrentUser().getId());
+        ApiResponse<TrainerDTO> response = trainerService.updateProfile(trainerDTO, domainUtils.getCurrentUser().id());
         return new ResponseEntity<>(response, HttpStatus.ACCEPTED);
     }
 
     @DeleteMapping("/delete")
     public ResponseEntity<ApiResponse<Void>> deleteTrainer(@RequestParam String username) {
-        trainerService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().getPassword(), username);
+        trainerService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), username);
 
         ApiResponse<Void> response = trainerService.deleteProfile(username);
         return new ResponseEntity<>(response, HttpStatus.NO_CONTENT);
@@ -76,7 +86,7 @@ public class TrainerController {
 
     @PatchMapping
     public ResponseEntity<ApiResponse<Void>> activateOrDeactivate(@Valid @RequestBody ActivateDeactiveRequest request) {
-        trainerService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().getPassword(), request.getUsername());
+        trainerService.checkAuthProfile(domainUtils.getCurrentUser().getUsername(), request.getUsername());
 
         ApiResponse<Void> response = trainerService.activateOrDeactivate(request);
         return new ResponseEntity<>(response, HttpStatus.OK);
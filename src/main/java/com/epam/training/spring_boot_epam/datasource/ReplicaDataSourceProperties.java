@@ -0,0 +1,36 @@
+package com.epam.training.spring_boot_epam.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /** JDBC url of the read replica. While unset there is no routing and everything uses spring.datasource. */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    /**
+     * How long a read-only transaction waits for a replica connection before the pool gives up.
+     * Kept short because the transaction then falls back to the primary.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Replay lag above which read-only transactions go to the primary. It is also the longest a
+     * read on the replica can trail a write committed on the primary.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,82 @@
+package com.epam.training.spring_boot_epam.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Polls the replica for its replay lag and decides whether read-only transactions may use it.
+ * The replica counts as usable only after a successful check found the lag within
+ * {@code maxLag}; until the first check, and after any failure, reads go to the primary.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    private static final long UNKNOWN = -1;
+
+    /**
+     * Zero when the replica has replayed everything it received, since the last replay
+     * timestamp keeps ageing on a caught-up replica of an idle primary.
+     */
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END
+            """;
+
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private volatile long lagMillis = UNKNOWN;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLag.toMillis();
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis == UNKNOWN ? Double.NaN : monitor.lagMillis / 1000.0)
+                .description("Replay lag of the read replica; NaN while it is unreachable")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.isUsable() ? 1 : 0)
+                .description("Whether read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isUsable() {
+        long lag = lagMillis;
+        return lag != UNKNOWN && lag <= maxLagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        Double lag;
+        try {
+            lag = replica.queryForObject(LAG_QUERY, Double.class);
+        } catch (DataAccessException e) {
+            markUnreachable(e);
+            return;
+        }
+        boolean wasUsable = isUsable();
+        lagMillis = lag == null ? 0 : Math.round(lag);
+        if (wasUsable && !isUsable()) {
+            LOGGER.warn("Replica lags {} ms behind the primary, routing reads to the primary", lagMillis);
+        } else if (!wasUsable && isUsable()) {
+            LOGGER.info("Replica caught up ({} ms lag), routing read-only transactions to it", lagMillis);
+        }
+    }
+
+    /** Stops routing to the replica until the next successful check. */
+    public void markUnreachable(Exception cause) {
+        if (lagMillis != UNKNOWN) {
+            LOGGER.warn("Replica unreachable, routing reads to the primary", cause);
+        }
+        lagMillis = UNKNOWN;
+    }
+}
@@ -0,0 +1,46 @@
+package com.epam.training.spring_boot_epam.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_username", columnList = "username"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
+    @SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "refresh_tokens_seq", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "token_hash", length = 64, nullable = false, unique = true, updatable = false)
+    private String tokenHash;
+
+    @Column(name = "username", length = 100, nullable = false, updatable = false)
+    private String username;
+
+    /** Shared by every token produced by rotating the same login, revoked together on reuse. */
+    @Column(name = "family_id", length = 36, nullable = false, updatable = false)
+    private String familyId;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private Instant expiresAt;
+
+    @Column(name = "used", nullable = false)
+    private Boolean used;
+
+    @Column(name = "revoked", nullable = false)
+    private Boolean revoked;
+}
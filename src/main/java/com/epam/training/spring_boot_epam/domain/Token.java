@@ -6,24 +6,30 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
+
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
 @Entity
-@Table(name = "jwt_tokens")
+@Table(name = "jwt_tokens", indexes = @Index(name = "idx_jwt_tokens_expires_at", columnList = "expires_at"))
 public class Token {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jwt_tokens_seq")
+    @SequenceGenerator(name = "jwt_tokens_seq", sequenceName = "jwt_tokens_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "token", length = 1000, nullable = false, updatable = false)
-    private String token;
+    @Column(name = "token_hash", length = 64, nullable = false, unique = true)
+    private String tokenHash;
 
-    @Column(name = "username", length = 100, nullable = false, updatable = false)
+    @Column(name = "username", length = 100, nullable = false, unique = true, updatable = false)
     private String username;
 
-    @Column(name = "expired")
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "expired", nullable = false)
     private Boolean expired;
 }
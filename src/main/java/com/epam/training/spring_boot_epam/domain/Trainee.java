@@ -9,10 +9,16 @@ import jakarta.persistence.Id;
 import jakarta.persistence.MapsId;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.Index;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -22,9 +28,18 @@ import java.util.List;
 @NoArgsConstructor
 @Entity
 @Table(name = "trainees")
+@NamedEntityGraph(name = Trainee.GRAPH_AUTH_CHECK, attributeNodes = @NamedAttributeNode("user"))
+@NamedEntityGraph(name = Trainee.GRAPH_PROFILE,
+        attributeNodes = {@NamedAttributeNode("user"), @NamedAttributeNode(value = "trainers", subgraph = "trainer")},
+        subgraphs = @NamedSubgraph(name = "trainer", attributeNodes = {@NamedAttributeNode("user"), @NamedAttributeNode("specialization")}))
 @ToString
 public class Trainee {
 
+    /** Trainee and its user row only; enough for ownership checks and updates. */
+    public static final String GRAPH_AUTH_CHECK = "Trainee.authCheck";
+    /** Adds the assigned trainers with their users and specializations for the profile view. */
+    public static final String GRAPH_PROFILE = "Trainee.profile";
+
     @Id
     @Column(name = "user_id")
     private Long id;
@@ -40,11 +55,17 @@ public class Trainee {
     @Column(name = "address")
     private String address;
 
-    @ManyToMany(fetch = FetchType.EAGER, cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
+    /** Owning side of the only trainee/trainer link table; {@link Trainer#getTrainees()} is mapped by it. */
+    @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
+    @JoinTable(name = "trainees_trainers",
+            joinColumns = @JoinColumn(name = "trainee_id"),
+            inverseJoinColumns = @JoinColumn(name = "trainer_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_trainees_trainers", columnNames = {"trainee_id", "trainer_id"}),
+            indexes = @Index(name = "idx_trainees_trainers_trainer_id", columnList = "trainer_id"))
     @ToString.Exclude
     private List<Trainer> trainers = new ArrayList<>();
 
-    @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "trainee", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @ToString.Exclude
     private List<Training> trainings = new ArrayList<>();
 
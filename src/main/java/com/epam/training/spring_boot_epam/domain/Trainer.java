@@ -12,7 +12,14 @@ import java.util.List;
 @NoArgsConstructor
 @Entity
 @Table(name = "trainers")
+@NamedEntityGraph(name = Trainer.GRAPH_AUTH_CHECK, attributeNodes = @NamedAttributeNode("user"))
+@NamedEntityGraph(name = Trainer.GRAPH_PROFILE, attributeNodes = {@NamedAttributeNode("user"), @NamedAttributeNode("specialization")})
 public class Trainer{
+
+    /** Trainer and its user row only; enough for ownership checks and updates. */
+    public static final String GRAPH_AUTH_CHECK = "Trainer.authCheck";
+    /** Adds the specialization for the profile view; trainees are listed through a separate query. */
+    public static final String GRAPH_PROFILE = "Trainer.profile";
     @Id
     @Column(name = "user_id")
     private Long id;
@@ -25,11 +32,11 @@ public class Trainer{
     @ManyToOne
     private TrainingType specialization;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(mappedBy = "trainers", fetch = FetchType.LAZY)
     private List<Trainee> trainees = new ArrayList<>();
 
-    @OneToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Training> trainings;
+    @OneToMany(mappedBy = "trainer", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<Training> trainings = new ArrayList<>();
 
     public Trainer(User user, TrainingType specialization) {
         this.user = user;
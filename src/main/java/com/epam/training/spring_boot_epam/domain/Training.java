@@ -9,8 +9,13 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
 import java.time.LocalDateTime;
@@ -21,19 +26,31 @@ import java.time.LocalDateTime;
 @Entity
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Table(name = "trainings")
+@NamedEntityGraph(name = Training.GRAPH_LIST,
+        attributeNodes = {
+                @NamedAttributeNode(value = "trainer", subgraph = "trainer"),
+                @NamedAttributeNode(value = "trainee", subgraph = "trainee"),
+                @NamedAttributeNode("trainingType")},
+        subgraphs = {
+                @NamedSubgraph(name = "trainer", attributeNodes = @NamedAttributeNode("user")),
+                @NamedSubgraph(name = "trainee", attributeNodes = @NamedAttributeNode("user"))})
 public class Training {
 
+    /** Training with both participants' users and its type, as rendered in training lists. */
+    public static final String GRAPH_LIST = "Training.list";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainings_seq")
+    @SequenceGenerator(name = "trainings_seq", sequenceName = "trainings_seq", allocationSize = 50)
     @Column(name = "id")
     @EqualsAndHashCode.Include
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "trainer_id", nullable = false)
     private Trainer trainer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "trainee_id", nullable = false)
     private Trainee trainee;
 
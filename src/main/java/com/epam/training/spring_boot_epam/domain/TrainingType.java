@@ -5,12 +5,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.persistence.Column;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @Setter
@@ -18,9 +22,15 @@ import jakarta.persistence.GenerationType;
 @NoArgsConstructor
 @Entity
 @Table(name = "training_types")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = TrainingType.CACHE_REGION)
 public class TrainingType {
+
+    public static final String CACHE_REGION = "training-types";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "training_types_seq")
+    @SequenceGenerator(name = "training_types_seq", sequenceName = "training_types_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
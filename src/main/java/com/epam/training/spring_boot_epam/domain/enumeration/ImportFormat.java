@@ -0,0 +1,21 @@
+package com.epam.training.spring_boot_epam.domain.enumeration;
+
+import com.epam.training.spring_boot_epam.exception.DomainException;
+import org.springframework.http.MediaType;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static ImportFormat of(MediaType contentType) {
+        if (contentType != null && contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            return NDJSON;
+        }
+        if (contentType != null && contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))) {
+            return CSV;
+        }
+        throw new DomainException("Unsupported import content type: " + contentType);
+    }
+}
@@ -0,0 +1,8 @@
+package com.epam.training.spring_boot_epam.domain.enumeration;
+
+public enum ImportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,19 @@
+package com.epam.training.spring_boot_epam.domain.enumeration;
+
+import com.epam.training.spring_boot_epam.exception.DomainException;
+
+import java.util.Locale;
+
+public enum ImportType {
+    TRAINEES,
+    TRAINERS,
+    TRAININGS;
+
+    public static ImportType fromPath(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new DomainException("Unsupported import type: " + value);
+        }
+    }
+}
@@ -6,7 +6,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.Sort;
+
 import java.time.LocalDateTime;
 
 @Getter
@@ -25,4 +29,14 @@ public class TrainerTrainingsFilter {
     private LocalDateTime to;
 
     private String traineeFirstname;
+
+    /** Opaque {@code nextCursor} from the previous page; absent for the first page. */
+    private String cursor;
+
+    @Min(1)
+    @Max(TrainingPageRequest.MAX_LIMIT)
+    private Integer limit;
+
+    /** Order by training date, newest first unless ASC is requested. */
+    private Sort.Direction sort;
 }
\ No newline at end of file
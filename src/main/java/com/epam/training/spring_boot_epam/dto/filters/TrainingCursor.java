@@ -0,0 +1,33 @@
+package com.epam.training.spring_boot_epam.dto.filters;
+
+import com.epam.training.spring_boot_epam.exception.DomainException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in a training history: the (training_date_time, id) pair of the last row
+ * a client has seen. Travels over the wire as an opaque URL-safe token.
+ */
+public record TrainingCursor(LocalDateTime trainingDateTime, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = trainingDateTime.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TrainingCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new TrainingCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new DomainException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.epam.training.spring_boot_epam.dto.filters;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Keyset page over a training history ordered by (training_date_time, id).
+ * {@code after} is null for the first page.
+ */
+public record TrainingPageRequest(TrainingCursor after, Sort.Direction direction, int limit) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    public static TrainingPageRequest of(String cursor, Sort.Direction direction, Integer limit) {
+        return new TrainingPageRequest(
+                cursor == null || cursor.isBlank() ? null : TrainingCursor.decode(cursor),
+                direction == null ? Sort.Direction.DESC : direction,
+                limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    public boolean descending() {
+        return direction.isDescending();
+    }
+}
@@ -0,0 +1,17 @@
+package com.epam.training.spring_boot_epam.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class RefreshTokenRequest {
+
+    @NotNull(message = "Refresh token can not be null")
+    private String refreshToken;
+}
@@ -0,0 +1,34 @@
+package com.epam.training.spring_boot_epam.dto.response;
+
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportFormat;
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportStatus;
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobDTO {
+    private String id;
+    private ImportType type;
+    private ImportFormat format;
+    private ImportStatus status;
+    private long processedRows;
+    private long succeededRows;
+    private long failedRows;
+    private List<ImportRowErrorDTO> errors;
+    /** Set when the whole import stopped, e.g. on unparseable input. */
+    private String failureMessage;
+    private boolean credentialsAvailable;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
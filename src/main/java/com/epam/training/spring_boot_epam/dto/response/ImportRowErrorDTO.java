@@ -0,0 +1,16 @@
+package com.epam.training.spring_boot_epam.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportRowErrorDTO {
+    /** 1-based record number in the upload, not counting a CSV header. */
+    private long row;
+    private String message;
+}
@@ -12,4 +12,6 @@ import lombok.Setter;
 public class TokenResponse {
     private String token;
     private Long expiresIn;
+    private String refreshToken;
+    private Long refreshExpiresIn;
 }
@@ -0,0 +1,8 @@
+package com.epam.training.spring_boot_epam.event;
+
+/**
+ * Published by the trainer DAO whenever trainers are created, updated or removed.
+ * Listeners holding a view of the trainer roster should rebuild it.
+ */
+public record TrainersChangedEvent() {
+}
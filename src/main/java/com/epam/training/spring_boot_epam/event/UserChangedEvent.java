@@ -0,0 +1,14 @@
+package com.epam.training.spring_boot_epam.event;
+
+/**
+ * Published by the DAOs whenever a user's credentials, profile or active flag change,
+ * or the user is removed. Listeners holding copies of the user should drop them.
+ * {@code revokeSessions} is set when the user ends up deactivated or removed, so the
+ * access tokens issued so far must stop working.
+ */
+public record UserChangedEvent(String username, boolean revokeSessions) {
+
+    public UserChangedEvent(String username) {
+        this(username, false);
+    }
+}
@@ -2,12 +2,45 @@ package com.epam.training.spring_boot_epam.repository;
 
 import com.epam.training.spring_boot_epam.domain.Token;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Instant;
 import java.util.Optional;
 
 public interface TokenDao extends JpaRepository<Token, Long> {
-    Optional<Token> findByTokenAndExpiredFalse(String token);
-    Optional<Token> findByUsernameAndTokenAndExpiredFalse(String username, String token);
-    List<Token> findByUsername(String username);
+    // not read-only like derived queries by default: a logout must not look undone on a lagging replica
+    @Transactional
+    Optional<Token> findByTokenHashAndExpiredFalse(String tokenHash);
+    @Transactional
+    Optional<Token> findByUsernameAndTokenHashAndExpiredFalse(String username, String tokenHash);
+
+    /**
+     * Replaces the user's current token in one statement, relying on the unique username column.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO jwt_tokens (id, token_hash, username, expires_at, expired)
+            VALUES (nextval('jwt_tokens_seq'), :tokenHash, :username, :expiresAt, false)
+            ON CONFLICT (username) DO UPDATE
+            SET token_hash = EXCLUDED.token_hash, expires_at = EXCLUDED.expires_at, expired = false
+            """, nativeQuery = true)
+    void upsert(@Param("username") String username, @Param("tokenHash") String tokenHash, @Param("expiresAt") Instant expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Token t SET t.expired = true WHERE t.username = :username AND t.expired = false")
+    int expireByUsername(@Param("username") String username);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM jwt_tokens WHERE id IN (
+                SELECT id FROM jwt_tokens WHERE expired = true OR expires_at < :now LIMIT :batchSize
+            )
+            """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("batchSize") int batchSize);
 }
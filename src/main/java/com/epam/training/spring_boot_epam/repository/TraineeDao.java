@@ -2,26 +2,37 @@ package com.epam.training.spring_boot_epam.repository;
 
 import com.epam.training.spring_boot_epam.domain.Trainee;
 import com.epam.training.spring_boot_epam.domain.Trainer;
-import com.epam.training.spring_boot_epam.domain.Training;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
+import com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface TraineeDao {
     Trainee save(Trainee trainee);
+    void saveAll(List<Trainee> trainees);
+    List<Trainee> findAllByUsernames(Collection<String> usernames);
     Optional<Trainee> findById(Long id);
     Optional<Trainee> findByUsername(String username);
+    Optional<Trainee> findProfileByUsername(String username);
     void update(Trainee trainee);
     void delete(Trainee trainee);
     void deleteByUsername(String username);
+    List<Long> findDeactivatedIds(int limit);
+    int deleteAllByIds(Collection<Long> ids);
     List<Trainee> findAll();
     List<Trainer> findAllTraineeTrainers(Long id);
     boolean existsByUsername(String username);
     boolean existsById(Long id);
-    List<Training> findTraineeTrainings(String username, String trainerUsername, LocalDateTime fromDate, LocalDateTime toDate, String trainerName, String trainingType);
-    List<Trainer> findAvailableTrainersForTrainee(String traineeUsername);
+    List<TraineeFilterResponseDTO> findTraineeTrainings(String username, String trainerUsername, LocalDateTime fromDate, LocalDateTime toDate, String trainerName, String trainingType, TrainingPageRequest page);
+    Stream<TraineeFilterResponseDTO> streamTraineeTrainings(String username, LocalDateTime fromDate, LocalDateTime toDate, String trainerName, String trainingType);
+    Set<Long> findAssignedTrainerIds(String traineeUsername);
     void updateTraineeTrainers(String username, List<String> trainerUsernames);
+    int linkTrainersOfTrainings(Collection<Long> trainingIds);
 }
\ No newline at end of file
@@ -2,20 +2,28 @@ package com.epam.training.spring_boot_epam.repository;
 
 import com.epam.training.spring_boot_epam.domain.Trainee;
 import com.epam.training.spring_boot_epam.domain.Trainer;
-import com.epam.training.spring_boot_epam.domain.Training;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
+import com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TrainerDao {
     Trainer save(Trainer trainer);
 
+    void saveAll(List<Trainer> trainers);
+
+    List<Trainer> findAllByUsernames(Collection<String> usernames);
+
     Optional<Trainer> findById(Long id);
 
     Optional<Trainer> findByUsername(String username);
+    Optional<Trainer> findProfileByUsername(String username);
     List<Trainee> findAllTrainerTrainees(Long id);
 
     Trainer update(Trainer trainer);
@@ -24,7 +32,10 @@ public interface TrainerDao {
 
     List<Trainer> findAll();
 
+    List<Trainer> findAllActive();
+
     boolean existsByUsername(String username);
 
-    List<Training> findTrainerTrainings(String username, String traineeUsername, LocalDateTime fromDate, LocalDateTime toDate, String traineeName);
+    List<TrainerFilterResponseDTO> findTrainerTrainings(String username, LocalDateTime fromDate, LocalDateTime toDate, String traineeName, TrainingPageRequest page);
+    Stream<TrainerFilterResponseDTO> streamTrainerTrainings(String username, LocalDateTime fromDate, LocalDateTime toDate, String traineeName);
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ import java.util.Optional;
 public interface TrainingDao {
     Training save(Training training);
 
+    void saveAll(List<Training> trainings);
+
     Optional<Training> findById(Long id);
 
     void update(Training training);
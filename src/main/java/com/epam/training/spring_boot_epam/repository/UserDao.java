@@ -1,15 +1,20 @@
 package com.epam.training.spring_boot_epam.repository;
 
 import com.epam.training.spring_boot_epam.domain.User;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserDao {
     Optional<User> findByUsername(String username);
+    Optional<AuthenticatedUser> findPrincipalByUsername(String username);
     User save(User user);
     boolean existsByUsernameAndPassword(String username, String password);
     boolean existsByUsername(String username);
+    Set<String> findUsernamesStartingWith(Collection<String> prefixes);
     boolean updatePassword(String username, String newPassword);
 }
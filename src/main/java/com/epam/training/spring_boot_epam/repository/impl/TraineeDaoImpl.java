@@ -1,33 +1,88 @@
 package com.epam.training.spring_boot_epam.repository.impl;
 
 import com.epam.training.spring_boot_epam.domain.Trainer;
-import com.epam.training.spring_boot_epam.domain.Training;
 import com.epam.training.spring_boot_epam.domain.Trainee;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
+import com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO;
+import com.epam.training.spring_boot_epam.event.UserChangedEvent;
 import com.epam.training.spring_boot_epam.repository.TraineeDao;
-import com.epam.training.spring_boot_epam.repository.jpa.TraineeJpaRepository;
-import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceUnit;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 
 @Repository
 @Transactional
 public class TraineeDaoImpl implements TraineeDao {
 
-    private final TraineeJpaRepository traineeJpaRepository;
+    /** Rows pulled per round trip while streaming; keeps the JDBC driver from buffering the whole result. */
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Removes trainees with everything that references them, children first. Every statement is
+     * keyed by the trainee ids, so deleting a profile costs the same number of round trips however
+     * long its training history is.
+     */
+    private static final List<BulkDelete> DELETE_PIPELINE = List.of(
+            new BulkDelete("trainees_trainers", "DELETE FROM trainees_trainers WHERE trainee_id IN (:ids)"),
+            new BulkDelete("trainings", "DELETE FROM trainings WHERE trainee_id IN (:ids)"),
+            new BulkDelete("jwt_tokens",
+                    "DELETE FROM jwt_tokens WHERE username IN (SELECT username FROM app_users WHERE id IN (:ids))"),
+            new BulkDelete("refresh_tokens",
+                    "DELETE FROM refresh_tokens WHERE username IN (SELECT username FROM app_users WHERE id IN (:ids))"),
+            new BulkDelete("trainees", "DELETE FROM trainees WHERE user_id IN (:ids)"),
+            new BulkDelete("app_users", "DELETE FROM app_users WHERE id IN (:ids)"));
+
+    private static final TrainingSearchQuery<TraineeFilterResponseDTO> TRAINING_SEARCH = new TrainingSearchQuery<>(
+            "Trainee.trainingSearch", TraineeFilterResponseDTO.class, """
+                    SELECT new com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO(
+                        t.id, tru.firstName, t.trainingName, tt.trainingTypeName, t.trainingDateTime, t.trainingDurationInMinutes)
+                    FROM Training t
+                    JOIN t.trainee te
+                    JOIN te.user teu
+                    JOIN t.trainer tr
+                    JOIN tr.user tru
+                    LEFT JOIN t.trainingType tt
+                    WHERE teu.username = :username
+                    """,
+            List.of(
+                    TrainingSearchQuery.filter("fromDate", "t.trainingDateTime >= :fromDate", TrainingSearch::fromDate),
+                    TrainingSearchQuery.filter("toDate", "t.trainingDateTime <= :toDate", TrainingSearch::toDate),
+                    TrainingSearchQuery.filter("trainerName", "LOWER(tru.firstName) LIKE :trainerName", TrainingSearch::counterpartNamePattern),
+                    TrainingSearchQuery.filter("trainingType", "tt.trainingTypeName = :trainingType", TrainingSearch::trainingType)));
+
+    private final ApplicationEventPublisher eventPublisher;
     @PersistenceContext
     private EntityManager entityManager;
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
 
-    public TraineeDaoImpl(TraineeJpaRepository traineeJpaRepository) {
-        this.traineeJpaRepository = traineeJpaRepository;
+    public TraineeDaoImpl(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void precompileSearches() {
+        TRAINING_SEARCH.precompile(entityManagerFactory);
     }
 
     @Override
@@ -38,15 +93,53 @@ public class TraineeDaoImpl implements TraineeDao {
         return trainee;
     }
 
+    /**
+     * Persists a whole chunk and flushes it in one go so the inserts go out as JDBC batches,
+     * then clears the context so a long import does not keep every row it wrote managed.
+     */
+    @Override
+    public void saveAll(List<Trainee> trainees) {
+        for (Trainee trainee : trainees) {
+            trainee.getUser().setRole("ROLE_TRAINEE");
+            entityManager.persist(trainee);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public List<Trainee> findAllByUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery("SELECT t FROM Trainee t WHERE t.user.username IN :usernames", Trainee.class)
+                .setParameter("usernames", usernames)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(Trainee.GRAPH_AUTH_CHECK))
+                .getResultList();
+    }
+
+    // findById and findByUsername load trainees the services go on to modify, so they read the primary
     @Override
     public Optional<Trainee> findById(Long id) {
-        return Optional.ofNullable(entityManager.find(Trainee.class, id));
+        return Optional.ofNullable(entityManager.find(Trainee.class, id,
+                Map.of(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(Trainee.GRAPH_AUTH_CHECK))));
     }
 
     @Override
     public Optional<Trainee> findByUsername(String username) {
+        return findByUsername(username, Trainee.GRAPH_AUTH_CHECK);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Trainee> findProfileByUsername(String username) {
+        return findByUsername(username, Trainee.GRAPH_PROFILE);
+    }
+
+    private Optional<Trainee> findByUsername(String username, String graphName) {
         return entityManager.createQuery("SELECT t FROM Trainee t WHERE t.user.username = :username", Trainee.class)
                 .setParameter("username", username)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(graphName))
                 .getResultStream()
                 .findFirst();
     }
@@ -54,66 +147,84 @@ public class TraineeDaoImpl implements TraineeDao {
     @Override
     public void update(Trainee trainee) {
         entityManager.merge(trainee);
+        eventPublisher.publishEvent(new UserChangedEvent(trainee.getUser().getUsername(),
+                !Boolean.TRUE.equals(trainee.getUser().getActive())));
     }
 
     @Override
     public void delete(Trainee trainee) {
         entityManager.remove(entityManager.contains(trainee) ? trainee : entityManager.merge(trainee));
+        eventPublisher.publishEvent(new UserChangedEvent(trainee.getUser().getUsername(), true));
     }
 
     @Override
     public void deleteByUsername(String username) {
-        Trainee trainee = findByUsername(username).get();
-
-        for (Training training : trainee.getTrainings()) {
-            entityManager.createNativeQuery(
-                    "DELETE FROM trainers_trainings WHERE trainings_id = ?"
-            ).setParameter(1, training.getId()).executeUpdate();
-        }
-
-        entityManager.createNativeQuery(
-                "DELETE FROM trainers_trainees WHERE trainees_user_id IN (SELECT t.user_id FROM trainees t JOIN app_users u ON t.user_id = u.id WHERE u.username = ?)"
-        ).setParameter(1, username).executeUpdate();
+        List<Long> ids = entityManager.createQuery("SELECT t.id FROM Trainee t WHERE t.user.username = :username", Long.class)
+                .setParameter("username", username)
+                .getResultList();
+        deleteAllByIds(ids);
+    }
 
-        entityManager.createNativeQuery(
-                "DELETE FROM trainees_trainings WHERE trainee_user_id IN (SELECT t.user_id FROM trainees t JOIN app_users u ON t.user_id = u.id WHERE u.username = ?)"
-        ).setParameter(1, username).executeUpdate();
+    /**
+     * Reads the primary: a replica lagging behind a reactivation would hand that trainee to the
+     * permanent delete, and one lagging behind the previous batch would return it again.
+     */
+    @Override
+    public List<Long> findDeactivatedIds(int limit) {
+        return entityManager.createQuery("SELECT t.id FROM Trainee t WHERE t.user.active = false ORDER BY t.id", Long.class)
+                .setMaxResults(limit)
+                .getResultList();
+    }
 
-        entityManager.createNativeQuery(
-                "DELETE FROM trainings WHERE trainee_id IN (SELECT t.user_id FROM trainees t JOIN app_users u ON t.user_id = u.id WHERE u.username = ?)"
-        ).setParameter(1, username).executeUpdate();
+    /**
+     * Runs {@link #DELETE_PIPELINE} for all given trainees: one statement per table no matter how
+     * many trainings they have. Each statement declares the table it touches so Hibernate only
+     * invalidates the matching second-level cache regions.
+     */
+    @Override
+    public int deleteAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
 
-        entityManager.createNativeQuery(
-                "DELETE FROM jwt_tokens WHERE username = ?"
-        ).setParameter(1, username).executeUpdate();
+        List<String> usernames = entityManager.createQuery("SELECT u.username FROM app_users u WHERE u.id IN :ids", String.class)
+                .setParameter("ids", ids)
+                .getResultList();
 
+        int deleted = 0;
+        for (BulkDelete step : DELETE_PIPELINE) {
+            int rows = entityManager.createNativeQuery(step.sql())
+                    .unwrap(NativeQuery.class)
+                    .addSynchronizedQuerySpace(step.table())
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+            if (step.table().equals("trainees")) {
+                deleted = rows;
+            }
+        }
 
-        traineeJpaRepository.delete(trainee);
+        usernames.forEach(username -> eventPublisher.publishEvent(new UserChangedEvent(username, true)));
+        return deleted;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Trainee> findAll() {
         return entityManager.createQuery("SELECT t FROM Trainee t", Trainee.class)
                 .getResultList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Trainer> findAllTraineeTrainers(Long traineeId) {
-        List<Trainer> trainingTrainers = entityManager.createQuery(
-                        "SELECT DISTINCT tr.trainer FROM Training tr WHERE tr.trainee.id = :id", Trainer.class)
-                .setParameter("id", traineeId)
-                .getResultList();
-
-        List<Trainer> trainerTrainers = entityManager.createQuery(
-                        "SELECT DISTINCT tr.trainers FROM Trainee tr WHERE tr.id = :id", Trainer.class)
+        // uk_trainees_trainers keeps every pair once, so the join needs no DISTINCT
+        return entityManager.createQuery("""
+                        SELECT tr FROM Trainee te JOIN te.trainers tr
+                        JOIN FETCH tr.user LEFT JOIN FETCH tr.specialization
+                        WHERE te.id = :id
+                        """, Trainer.class)
                 .setParameter("id", traineeId)
                 .getResultList();
-
-        List<Trainer> trainers = new ArrayList<>();
-        trainers.addAll(trainingTrainers);
-        trainers.addAll(trainerTrainers);
-
-        return trainers;
     }
 
     @Override
@@ -131,46 +242,55 @@ public class TraineeDaoImpl implements TraineeDao {
     }
 
     @Override
-    public List<Training> findTraineeTrainings(String username, String trainerUsername, LocalDateTime fromDate, LocalDateTime toDate,
-                                               String trainerName, String trainingType) {
-        StringBuilder jpql = new StringBuilder("""
-                    SELECT t FROM Training t
-                    WHERE t.trainee.user.username = :username
-                """);
+    @Transactional(readOnly = true)
+    public List<TraineeFilterResponseDTO> findTraineeTrainings(String username, String trainerUsername, LocalDateTime fromDate, LocalDateTime toDate,
+                                                               String trainerName, String trainingType, TrainingPageRequest page) {
+        TrainingSearch search = new TrainingSearch(username, fromDate, toDate, trainerName, trainingType, page);
+        return TRAINING_SEARCH.create(entityManager, search).getResultList();
+    }
 
-        if (fromDate != null) {
-            jpql.append(" AND t.trainingDateTime >= :fromDate");
-        }
-        if (toDate != null) {
-            jpql.append(" AND t.trainingDateTime <= :toDate");
-        }
-        if (trainerName != null && !trainerName.isEmpty()) {
-            jpql.append(" AND LOWER(t.trainer.user.firstName) LIKE :trainerName");
-        }
-        if (trainingType != null && !trainingType.isEmpty()) {
-            jpql.append(" AND t.trainingType.trainingTypeName = :trainingType");
-        }
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<TraineeFilterResponseDTO> streamTraineeTrainings(String username, LocalDateTime fromDate, LocalDateTime toDate,
+                                                                   String trainerName, String trainingType) {
+        TrainingSearch search = new TrainingSearch(username, fromDate, toDate, trainerName, trainingType, null);
+        return TRAINING_SEARCH.create(entityManager, search)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
 
-        TypedQuery<Training> query = entityManager.createQuery(jpql.toString(), Training.class);
-        query.setParameter("username", username);
-        if (fromDate != null) query.setParameter("fromDate", fromDate);
-        if (toDate != null) query.setParameter("toDate", toDate);
-        if (trainerName != null && !trainerName.isEmpty())
-            query.setParameter("trainerName", "%" + trainerName.toLowerCase() + "%");
-        if (trainingType != null && !trainingType.isEmpty()) query.setParameter("trainingType", trainingType);
 
-        return query.getResultList();
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> findAssignedTrainerIds(String traineeUsername) {
+        return new HashSet<>(entityManager.createQuery("""
+                        SELECT tr.id FROM Trainee te JOIN te.trainers tr
+                        WHERE te.user.username = :username
+                        """, Long.class)
+                .setParameter("username", traineeUsername)
+                .getResultList());
     }
 
+    /**
+     * Links every trainee to the trainers of the given trainings in one statement. Pairs that are
+     * already linked are skipped by uk_trainees_trainers, so no trainee's trainer list is loaded.
+     */
     @Override
-    public List<Trainer> findAvailableTrainersForTrainee(String traineeUsername) {
-        return entityManager.createQuery(
-                        "SELECT tr FROM Trainer tr WHERE tr NOT IN (" +
-                                "SELECT t.trainer FROM Training t WHERE t.trainee.user.username = :username" +
-                                ")",
-                        Trainer.class)
-                .setParameter("username", traineeUsername)
-                .getResultList();
+    public int linkTrainersOfTrainings(Collection<Long> trainingIds) {
+        if (trainingIds.isEmpty()) {
+            return 0;
+        }
+
+        return entityManager.createNativeQuery("""
+                        INSERT INTO trainees_trainers (trainee_id, trainer_id)
+                        SELECT DISTINCT trainee_id, trainer_id FROM trainings WHERE id IN (:ids)
+                        ON CONFLICT ON CONSTRAINT uk_trainees_trainers DO NOTHING
+                        """)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("trainees_trainers")
+                .setParameter("ids", trainingIds)
+                .executeUpdate();
     }
 
     @Override
@@ -184,4 +304,7 @@ public class TraineeDaoImpl implements TraineeDao {
         trainee.setTrainers(trainers);
         entityManager.merge(trainee);
     }
-}
\ No newline at end of file
+
+    private record BulkDelete(String table, String sql) {
+    }
+}
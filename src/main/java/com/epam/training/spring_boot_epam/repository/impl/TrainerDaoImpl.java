@@ -2,51 +2,128 @@ package com.epam.training.spring_boot_epam.repository.impl;
 
 import com.epam.training.spring_boot_epam.domain.Trainee;
 import com.epam.training.spring_boot_epam.domain.Trainer;
-import com.epam.training.spring_boot_epam.domain.Training;
-import com.epam.training.spring_boot_epam.domain.User;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
+import com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO;
+import com.epam.training.spring_boot_epam.event.TrainersChangedEvent;
+import com.epam.training.spring_boot_epam.event.UserChangedEvent;
 import com.epam.training.spring_boot_epam.repository.TrainerDao;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.PersistenceContext;
-import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.Root;import java.time.LocalDateTime;
-import java.util.ArrayList;
+import jakarta.persistence.PersistenceUnit;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 @Transactional
+@RequiredArgsConstructor
 public class TrainerDaoImpl implements TrainerDao {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final TrainingSearchQuery<TrainerFilterResponseDTO> TRAINING_SEARCH = new TrainingSearchQuery<>(
+            "Trainer.trainingSearch", TrainerFilterResponseDTO.class, """
+                    SELECT new com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO(
+                        t.id, teu.firstName, t.trainingName, COALESCE(tt.trainingTypeName, ''), t.trainingDateTime, t.trainingDurationInMinutes)
+                    FROM Training t
+                    JOIN t.trainer tr
+                    JOIN tr.user tru
+                    JOIN t.trainee te
+                    JOIN te.user teu
+                    LEFT JOIN t.trainingType tt
+                    WHERE tru.username = :username
+                    """,
+            List.of(
+                    TrainingSearchQuery.filter("fromDate", "t.trainingDateTime >= :fromDate", TrainingSearch::fromDate),
+                    TrainingSearchQuery.filter("toDate", "t.trainingDateTime <= :toDate", TrainingSearch::toDate),
+                    TrainingSearchQuery.filter("traineeName", "LOWER(teu.firstName) LIKE :traineeName", TrainingSearch::counterpartNamePattern)));
+
     @PersistenceContext
     private EntityManager entityManager;
+    @PersistenceUnit
+    private EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    void precompileSearches() {
+        TRAINING_SEARCH.precompile(entityManagerFactory);
+    }
 
     @Override
     public Trainer save(Trainer trainer) {
         trainer.getUser().setRole("ROLE_TRAINER");
         entityManager.persist(trainer);
+        eventPublisher.publishEvent(new TrainersChangedEvent());
         return trainer;
     }
 
+    /**
+     * Persists a whole chunk and flushes it in one go so the inserts go out as JDBC batches,
+     * then clears the context so a long import does not keep every row it wrote managed.
+     */
+    @Override
+    public void saveAll(List<Trainer> trainers) {
+        for (Trainer trainer : trainers) {
+            trainer.getUser().setRole("ROLE_TRAINER");
+            entityManager.persist(trainer);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        eventPublisher.publishEvent(new TrainersChangedEvent());
+    }
+
+    @Override
+    public List<Trainer> findAllByUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery("SELECT t FROM Trainer t WHERE t.user.username IN :usernames", Trainer.class)
+                .setParameter("usernames", usernames)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(Trainer.GRAPH_AUTH_CHECK))
+                .getResultList();
+    }
+
+    // the plain lookups feed updates, deletes and activation changes and stay on the primary
     @Override
     public Optional<Trainer> findById(Long id) {
-        return Optional.ofNullable(entityManager.find(Trainer.class, id));
+        return Optional.ofNullable(entityManager.find(Trainer.class, id,
+                Map.of(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(Trainer.GRAPH_AUTH_CHECK))));
     }
 
     @Override
     public Optional<Trainer> findByUsername(String username) {
+        return findByUsername(username, Trainer.GRAPH_AUTH_CHECK);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Trainer> findProfileByUsername(String username) {
+        return findByUsername(username, Trainer.GRAPH_PROFILE);
+    }
+
+    private Optional<Trainer> findByUsername(String username, String graphName) {
         return entityManager.createQuery("SELECT t FROM Trainer t WHERE t.user.username = :username", Trainer.class)
                 .setParameter("username", username)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(graphName))
                 .getResultStream()
                 .findFirst();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Trainee> findAllTrainerTrainees(Long id) {
         return entityManager.createQuery(
                         "SELECT DISTINCT tr.trainee FROM Training tr WHERE tr.trainer.id = :id", Trainee.class)
@@ -56,20 +133,42 @@ public class TrainerDaoImpl implements TrainerDao {
 
     @Override
     public Trainer update(Trainer trainer) {
-        return entityManager.merge(trainer);
+        Trainer merged = entityManager.merge(trainer);
+        eventPublisher.publishEvent(new UserChangedEvent(merged.getUser().getUsername(),
+                !Boolean.TRUE.equals(merged.getUser().getActive())));
+        eventPublisher.publishEvent(new TrainersChangedEvent());
+        return merged;
     }
 
     @Override
     public void delete(Trainer trainer) {
         entityManager.remove(entityManager.contains(trainer) ? trainer : entityManager.merge(trainer));
+        eventPublisher.publishEvent(new UserChangedEvent(trainer.getUser().getUsername(), true));
+        eventPublisher.publishEvent(new TrainersChangedEvent());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Trainer> findAll() {
         return entityManager.createQuery("SELECT t FROM Trainer t", Trainer.class)
                 .getResultList();
     }
 
+    /**
+     * Loads {@code ActiveTrainerSnapshot} right after a trainer change invalidated it, so it reads
+     * the primary; a lagging replica would put the old rows back until the next refresh.
+     */
+    @Override
+    public List<Trainer> findAllActive() {
+        return entityManager.createQuery("""
+                        SELECT t FROM Trainer t JOIN FETCH t.user u LEFT JOIN FETCH t.specialization s
+                        WHERE u.active = true
+                        ORDER BY s.id, t.id
+                        """, Trainer.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+    }
+
     @Override
     public boolean existsByUsername(String username) {
         return entityManager.createQuery("SELECT COUNT(t) FROM Trainer t WHERE t.user.username = :username", Long.class)
@@ -78,29 +177,20 @@ public class TrainerDaoImpl implements TrainerDao {
     }
 
     @Override
-    public List<Training> findTrainerTrainings(String username, String traineeUsername, LocalDateTime fromDate, LocalDateTime toDate, String traineeName) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Training> cq = cb.createQuery(Training.class);
-        Root<Training> root = cq.from(Training.class);
-        Join<Training, Trainer> trainerJoin = root.join("trainer");
-        Join<Trainer, User> trainerUserJoin = trainerJoin.join("user");
-        Join<Training, Trainee> traineeJoin = root.join("trainee");
-        Join<Trainee, User> traineeUserJoin = traineeJoin.join("user");
-
-        List<Predicate> predicates = new ArrayList<>();
-        predicates.add(cb.equal(trainerUserJoin.get("username"), username));
-
-        if (fromDate != null) {
-            predicates.add(cb.greaterThanOrEqualTo(root.get("trainingDateTime"), fromDate));
-        }
-        if (toDate != null) {
-            predicates.add(cb.lessThanOrEqualTo(root.get("trainingDateTime"), toDate));
-        }
-        if (traineeName != null && !traineeName.isEmpty()) {
-            predicates.add(cb.like(cb.lower(traineeUserJoin.get("username")), traineeUsername.toLowerCase()));
-        }
+    @Transactional(readOnly = true)
+    public List<TrainerFilterResponseDTO> findTrainerTrainings(String username, LocalDateTime fromDate, LocalDateTime toDate, String traineeName, TrainingPageRequest page) {
+        TrainingSearch search = new TrainingSearch(username, fromDate, toDate, traineeName, null, page);
+        return TRAINING_SEARCH.create(entityManager, search).getResultList();
+    }
 
-        cq.select(root).where(predicates.toArray(new Predicate[0]));
-        return entityManager.createQuery(cq).getResultList();
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.MANDATORY)
+    public Stream<TrainerFilterResponseDTO> streamTrainerTrainings(String username, LocalDateTime fromDate, LocalDateTime toDate, String traineeName) {
+        TrainingSearch search = new TrainingSearch(username, fromDate, toDate, traineeName, null, null);
+        return TRAINING_SEARCH.create(entityManager, search)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
     }
-}
\ No newline at end of file
+
+}
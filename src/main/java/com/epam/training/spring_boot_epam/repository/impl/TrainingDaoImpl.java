@@ -2,6 +2,7 @@ package com.epam.training.spring_boot_epam.repository.impl;
 
 import com.epam.training.spring_boot_epam.domain.Training;
 import com.epam.training.spring_boot_epam.repository.TrainingDao;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,6 +10,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -29,9 +31,20 @@ public class TrainingDaoImpl implements TrainingDao {
         return training;
     }
 
+    /** Persists a chunk and flushes it as JDBC batches, then clears the context. */
+    @Override
+    public void saveAll(List<Training> trainings) {
+        for (Training training : trainings) {
+            entityManager.persist(training);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
     @Override
     public Optional<Training> findById(Long id) {
-        return Optional.ofNullable(entityManager.find(Training.class, id));
+        return Optional.ofNullable(entityManager.find(Training.class, id,
+                Map.of(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(Training.GRAPH_LIST))));
     }
 
     @Override
@@ -47,6 +60,7 @@ public class TrainingDaoImpl implements TrainingDao {
     @Override
     public List<Training> findAll() {
         return entityManager.createQuery("SELECT t FROM Training t", Training.class)
+                .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(Training.GRAPH_LIST))
                 .getResultList();
     }
 }
\ No newline at end of file
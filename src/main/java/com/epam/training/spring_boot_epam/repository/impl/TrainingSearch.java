@@ -0,0 +1,27 @@
+package com.epam.training.spring_boot_epam.repository.impl;
+
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter values of one training history search, seen from the side of {@code username}: the
+ * counterpart is the trainer in a trainee's history and the trainee in a trainer's.
+ * Empty strings count as "no filter".
+ */
+record TrainingSearch(String username, LocalDateTime fromDate, LocalDateTime toDate, String counterpartName,
+                      String trainingType, TrainingPageRequest page) {
+
+    TrainingSearch {
+        counterpartName = emptyToNull(counterpartName);
+        trainingType = emptyToNull(trainingType);
+    }
+
+    String counterpartNamePattern() {
+        return counterpartName == null ? null : "%" + counterpartName.toLowerCase() + "%";
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,135 @@
+package com.epam.training.spring_boot_epam.repository.impl;
+
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Declarative training history search: a fixed select restricted to one user, a list of optional
+ * filters, each mapping a {@link TrainingSearch} field to one predicate, and keyset paging.
+ * <p>
+ * Every combination of present filters and paging mode is a query shape. {@link #precompile}
+ * renders all shapes once and registers them as named queries, so a search only picks its shape
+ * and binds values: no JPQL is built or parsed per request, and each shape always produces the
+ * same SQL, which lets the driver reuse one server-side prepared statement for it.
+ */
+final class TrainingSearchQuery<R> {
+
+    private static final Paging[] PAGING = Paging.values();
+
+    private final String name;
+    private final Class<R> resultType;
+    private final String select;
+    private final List<Filter> filters;
+
+    /**
+     * @param select JPQL selecting from {@code Training t} and ending in a WHERE clause that
+     *               binds {@code :username}; filters are appended to it with AND
+     */
+    TrainingSearchQuery(String name, Class<R> resultType, String select, List<Filter> filters) {
+        this.name = name;
+        this.resultType = resultType;
+        this.select = select;
+        this.filters = List.copyOf(filters);
+    }
+
+    static Filter filter(String parameter, String predicate, Function<TrainingSearch, Object> value) {
+        return new Filter(parameter, predicate, value);
+    }
+
+    int shapeCount() {
+        return (1 << filters.size()) * PAGING.length;
+    }
+
+    /** Registers every shape with the factory; a broken predicate fails startup instead of the first matching search. */
+    void precompile(EntityManagerFactory entityManagerFactory) {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            for (int shape = 0; shape < shapeCount(); shape++) {
+                entityManagerFactory.addNamedQuery(queryName(shape), entityManager.createQuery(jpql(shape), resultType));
+            }
+        }
+    }
+
+    TypedQuery<R> create(EntityManager entityManager, TrainingSearch search) {
+        int present = 0;
+        for (int i = 0; i < filters.size(); i++) {
+            if (filters.get(i).value().apply(search) != null) {
+                present |= 1 << i;
+            }
+        }
+        TrainingPageRequest page = search.page();
+        Paging paging = Paging.of(page);
+
+        TypedQuery<R> query = entityManager.createNamedQuery(queryName(present * PAGING.length + paging.ordinal()), resultType);
+        query.setParameter("username", search.username());
+        for (int i = 0; i < filters.size(); i++) {
+            if ((present & 1 << i) != 0) {
+                Filter filter = filters.get(i);
+                query.setParameter(filter.parameter(), filter.value().apply(search));
+            }
+        }
+        if (page != null) {
+            if (page.after() != null) {
+                query.setParameter("cursorDateTime", page.after().trainingDateTime());
+                query.setParameter("cursorId", page.after().id());
+            }
+            query.setMaxResults(page.limit() + 1);
+        }
+        return query;
+    }
+
+    String jpql(int shape) {
+        int present = shape / PAGING.length;
+        StringBuilder jpql = new StringBuilder(select);
+        for (int i = 0; i < filters.size(); i++) {
+            if ((present & 1 << i) != 0) {
+                jpql.append(" AND ").append(filters.get(i).predicate());
+            }
+        }
+        return jpql.append(PAGING[shape % PAGING.length].clause()).toString();
+    }
+
+    private String queryName(int shape) {
+        return name + '#' + shape;
+    }
+
+    record Filter(String parameter, String predicate, Function<TrainingSearch, Object> value) {
+    }
+
+    /** Keyset paging over (training_date_time, id); NONE is the unpaged export stream. */
+    enum Paging {
+        NONE(""),
+        FIRST_ASC(" ORDER BY t.trainingDateTime ASC, t.id ASC"),
+        FIRST_DESC(" ORDER BY t.trainingDateTime DESC, t.id DESC"),
+        AFTER_ASC(" AND (t.trainingDateTime > :cursorDateTime"
+                + " OR (t.trainingDateTime = :cursorDateTime AND t.id > :cursorId))"
+                + " ORDER BY t.trainingDateTime ASC, t.id ASC"),
+        AFTER_DESC(" AND (t.trainingDateTime < :cursorDateTime"
+                + " OR (t.trainingDateTime = :cursorDateTime AND t.id < :cursorId))"
+                + " ORDER BY t.trainingDateTime DESC, t.id DESC");
+
+        private final String clause;
+
+        Paging(String clause) {
+            this.clause = clause;
+        }
+
+        String clause() {
+            return clause;
+        }
+
+        static Paging of(TrainingPageRequest page) {
+            if (page == null) {
+                return NONE;
+            }
+            if (page.after() == null) {
+                return page.descending() ? FIRST_DESC : FIRST_ASC;
+            }
+            return page.descending() ? AFTER_DESC : AFTER_ASC;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.epam.training.spring_boot_epam.repository.impl;
 
 import com.epam.training.spring_boot_epam.domain.TrainingType;
 import com.epam.training.spring_boot_epam.repository.TrainingTypeDao;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,14 +19,17 @@ public class TrainingTypeDaoImpl implements TrainingTypeDao {
     private EntityManager entityManager;
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<TrainingType> findById(Long id) {
         return Optional.ofNullable(entityManager.find(TrainingType.class, id));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TrainingType> findAll() {
         return entityManager
                 .createQuery("SELECT t FROM TrainingType t", TrainingType.class)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .getResultList();
     }
 }
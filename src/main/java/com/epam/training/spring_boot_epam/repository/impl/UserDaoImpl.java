@@ -1,15 +1,25 @@
 package com.epam.training.spring_boot_epam.repository.impl;
 
 import com.epam.training.spring_boot_epam.domain.User;
+import com.epam.training.spring_boot_epam.event.UserChangedEvent;
 import com.epam.training.spring_boot_epam.repository.UserDao;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
 
 @Repository
 @Transactional
@@ -18,6 +28,7 @@ public class UserDaoImpl implements UserDao {
     @PersistenceContext
     private EntityManager em;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Optional<User> findByUsername(String username) {
@@ -27,12 +38,28 @@ public class UserDaoImpl implements UserDao {
                 .findFirst();
     }
 
+    /**
+     * Not read-only: the user cache reloads through this right after a change evicted the entry,
+     * and a row from a lagging replica would then stay cached until it expires.
+     */
+    @Override
+    public Optional<AuthenticatedUser> findPrincipalByUsername(String username) {
+        return em.createQuery("""
+                        SELECT new com.epam.training.spring_boot_epam.security.AuthenticatedUser(u.id, u.username, u.password, u.role, u.active)
+                        FROM app_users u WHERE u.username = :username
+                        """, AuthenticatedUser.class)
+                .setParameter("username", username)
+                .getResultStream()
+                .findFirst();
+    }
+
     @Override
     public User save(User user) {
         if (user.getId() == null) {
             em.persist(user);
         } else {
             em.merge(user);
+            eventPublisher.publishEvent(new UserChangedEvent(user.getUsername(), !Boolean.TRUE.equals(user.getActive())));
         }
         return user;
     }
@@ -60,6 +87,30 @@ public class UserDaoImpl implements UserDao {
         return false;
     }
 
+    /**
+     * Every existing username that starts with one of the given prefixes, fetched in a single
+     * query so a batch of new profiles can pick free suffixes in memory. Reads the primary, where
+     * the usernames claimed by the previous chunk are already visible.
+     */
+    @Override
+    public Set<String> findUsernamesStartingWith(Collection<String> prefixes) {
+        if (prefixes.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        List<String> distinctPrefixes = List.copyOf(new LinkedHashSet<>(prefixes));
+        StringJoiner where = new StringJoiner(" OR ");
+        for (int i = 0; i < distinctPrefixes.size(); i++) {
+            where.add("u.username LIKE :prefix" + i + " ESCAPE '\\'");
+        }
+
+        TypedQuery<String> query = em.createQuery("SELECT u.username FROM app_users u WHERE " + where, String.class);
+        for (int i = 0; i < distinctPrefixes.size(); i++) {
+            query.setParameter("prefix" + i, escapeLike(distinctPrefixes.get(i)) + "%");
+        }
+        return new HashSet<>(query.getResultList());
+    }
+
     @Override
     public boolean updatePassword(String username, String newPassword) {
 
@@ -68,6 +119,13 @@ public class UserDaoImpl implements UserDao {
                 .setParameter("username", username)
                 .executeUpdate();
 
+        if (updatedRows > 0) {
+            eventPublisher.publishEvent(new UserChangedEvent(username));
+        }
         return updatedRows > 0;
     }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
@@ -0,0 +1,55 @@
+package com.epam.training.spring_boot_epam.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Times the individual phases of the request filter and the login flow as {@code auth.phase},
+ * tagged with pipeline, phase, outcome and, for failures, the exception's simple class name.
+ * Histogram buckets are published so Prometheus can compute per-phase percentiles.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthPhaseTimer {
+
+    public static final String FILTER = "filter";
+    public static final String LOGIN = "login";
+
+    private static final String METRIC_NAME = "auth.phase";
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String pipeline, String phase, Supplier<T> work) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            T result = work.get();
+            sample.stop(timer(pipeline, phase, "success", "none"));
+            return result;
+        } catch (RuntimeException e) {
+            sample.stop(timer(pipeline, phase, "failure", e.getClass().getSimpleName()));
+            throw e;
+        }
+    }
+
+    public void record(String pipeline, String phase, Runnable work) {
+        record(pipeline, phase, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private Timer timer(String pipeline, String phase, String outcome, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .description("Latency of a single authentication phase")
+                .tag("pipeline", pipeline)
+                .tag("phase", phase)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
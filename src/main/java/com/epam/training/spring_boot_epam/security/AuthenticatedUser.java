@@ -0,0 +1,57 @@
+package com.epam.training.spring_boot_epam.security;
+
+import com.epam.training.spring_boot_epam.domain.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable principal kept in the security context instead of the {@link User} entity.
+ * The password hash is only populated while the login is being verified; the copy stored in
+ * the context is created through {@link #withoutCredentials()}.
+ */
+public record AuthenticatedUser(Long id, String username, String password, String role, Boolean active)
+        implements UserDetails {
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getPassword(), user.getRole(), user.getActive());
+    }
+
+    public AuthenticatedUser withoutCredentials() {
+        return password == null ? this : new AuthenticatedUser(id, username, null, role, active);
+    }
+
+    public AuthenticatedUser withPassword(String newPassword) {
+        return new AuthenticatedUser(id, username, newPassword, role, active);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role));
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(active);
+    }
+
+    /** Masks the password hash, as Spring's {@code User} does, so logging a principal never leaks it. */
+    @Override
+    public String toString() {
+        return "AuthenticatedUser[id=" + id + ", username=" + username + ", password=[PROTECTED], role=" + role
+                + ", active=" + active + "]";
+    }
+}
@@ -0,0 +1,56 @@
+package com.epam.training.spring_boot_epam.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+
+/**
+ * Picks the highest BCrypt cost whose hash time on this machine stays within a latency budget.
+ * Each extra cost step doubles the work, so a few hashes at a cheap probe cost are enough to
+ * extrapolate the rest without spending seconds at startup.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+    private static final int PROBE_COST = 8;
+    private static final int SAMPLES = 5;
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration targetHashTime, int minCost, int maxCost) {
+        String password = "calibration-password";
+        BCrypt.hashpw(password, BCrypt.gensalt(PROBE_COST));
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long started = System.nanoTime();
+            BCrypt.hashpw(password, BCrypt.gensalt(PROBE_COST));
+            best = Math.min(best, System.nanoTime() - started);
+        }
+
+        int cost = selectCost(best, targetHashTime, minCost, maxCost);
+
+        LOGGER.info("BCrypt cost calibrated to {} (probe {} ms at cost {}, budget {} ms)",
+                cost, best / 1_000_000.0, PROBE_COST, targetHashTime.toMillis());
+        return cost;
+    }
+
+    /**
+     * Highest cost in [{@code minCost}, {@code maxCost}] whose extrapolated hash time fits the
+     * budget; {@code minCost} even when it does not.
+     */
+    static int selectCost(long probeNanos, Duration targetHashTime, int minCost, int maxCost) {
+        int cost = minCost;
+        while (cost < maxCost && estimate(probeNanos, cost + 1) <= targetHashTime.toNanos()) {
+            cost++;
+        }
+        return cost;
+    }
+
+    private static long estimate(long probeNanos, int cost) {
+        return probeNanos << (cost - PROBE_COST);
+    }
+}
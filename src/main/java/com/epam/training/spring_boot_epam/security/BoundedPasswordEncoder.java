@@ -0,0 +1,177 @@
+package com.epam.training.spring_boot_epam.security;
+
+import com.epam.training.spring_boot_epam.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the delegate's encode and matches calls on a fixed pool sized to the cores, so a burst
+ * of logins can use at most that much CPU and leaves the rest of the request threads alone.
+ * The queue in front of the pool is bounded; once it is full callers get a
+ * {@link TooManyRequestsException} right away instead of piling up.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final long BULK_BACKOFF_MILLIS = 50;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeWait;
+    private final Timer encodeTime;
+    private final Timer matchesWait;
+    private final Timer matchesTime;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hash requests waiting for a worker")
+                .register(meterRegistry);
+        this.encodeWait = waitTimer(meterRegistry, "encode");
+        this.encodeTime = hashTimer(meterRegistry, "encode");
+        this.matchesWait = waitTimer(meterRegistry, "matches");
+        this.matchesTime = hashTimer(meterRegistry, "matches");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), encodeWait, encodeTime);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword), matchesWait, matchesTime);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Hashes a batch of passwords in parallel, keeping at most one task per worker in flight so a
+     * bulk caller shares the pool with logins instead of filling the queue. When the pool is fully
+     * busy the batch backs off and retries rather than failing with 429. Results keep input order.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        List<String> encoded = new ArrayList<>(rawPasswords.size());
+        int window = executor.getCorePoolSize();
+        int next = 0;
+        while (next < rawPasswords.size()) {
+            List<Future<String>> inFlight = new ArrayList<>(window);
+            while (next < rawPasswords.size() && inFlight.size() < window) {
+                CharSequence rawPassword = rawPasswords.get(next);
+                try {
+                    inFlight.add(schedule(() -> delegate.encode(rawPassword), encodeWait, encodeTime));
+                } catch (RejectedExecutionException e) {
+                    break;
+                }
+                next++;
+            }
+
+            if (inFlight.isEmpty()) {
+                backOff();
+                continue;
+            }
+            for (Future<String> future : inFlight) {
+                encoded.add(await(future));
+            }
+        }
+        return encoded;
+    }
+
+    private <T> T submit(Callable<T> work, Timer waitTimer, Timer hashTimer) {
+        Future<T> future;
+        try {
+            future = schedule(work, waitTimer, hashTimer);
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException("Server is busy, please retry shortly");
+        }
+        return await(future);
+    }
+
+    private <T> Future<T> schedule(Callable<T> work, Timer waitTimer, Timer hashTimer) {
+        long queuedAt = System.nanoTime();
+        return executor.submit(() -> {
+            waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            return hashTimer.recordCallable(work);
+        });
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static void backOff() {
+        try {
+            Thread.sleep(BULK_BACKOFF_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static Timer waitTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.hash.wait")
+                .description("Time a password hash request spent queued")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("auth.hash.duration")
+                .description("Time spent computing a password hash")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
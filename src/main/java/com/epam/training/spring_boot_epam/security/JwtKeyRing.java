@@ -0,0 +1,91 @@
+package com.epam.training.spring_boot_epam.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Signing keys decoded once at startup. New tokens are signed with the configured signing key
+ * and carry its id in the {@code kid} header; verification picks the key by that header, so
+ * tokens signed with a key that is being rotated out stay valid until they expire.
+ * Tokens issued before the header was introduced are verified with the signing key.
+ */
+@Component
+public class JwtKeyRing {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private final Map<String, SecretKey> keys;
+    private final String signingKeyId;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtKeyRing(JwtProperties jwtProperties) {
+        Map<String, SecretKey> decoded = new LinkedHashMap<>();
+        for (JwtProperties.Key key : jwtProperties.getKeys()) {
+            if (decoded.put(key.getId(), Keys.hmacShaKeyFor(Decoders.BASE64.decode(key.getSecret()))) != null) {
+                throw new IllegalStateException("Duplicate JWT key id: " + key.getId());
+            }
+        }
+        if (decoded.isEmpty()) {
+            throw new IllegalStateException("No JWT keys configured under security.jwt.keys");
+        }
+
+        this.keys = Map.copyOf(decoded);
+        this.signingKeyId = jwtProperties.getSigningKeyId() != null
+                ? jwtProperties.getSigningKeyId()
+                : decoded.keySet().iterator().next();
+        this.signingKey = keys.get(signingKeyId);
+        if (signingKey == null) {
+            throw new IllegalStateException("Unknown JWT signing key id: " + signingKeyId);
+        }
+
+        // JwtParser is immutable and thread-safe, one instance serves every key through the locator
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+
+        LOGGER.info("Loaded {} JWT key(s), signing with '{}'", keys.size(), signingKeyId);
+    }
+
+    public JwtBuilder signer() {
+        return Jwts.builder()
+                .header().keyId(signingKeyId).and()
+                .signWith(signingKey, Jwts.SIG.HS512);
+    }
+
+    public Claims parse(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private SecretKey resolveKey(String keyId) {
+        if (keyId == null) {
+            return signingKey;
+        }
+
+        SecretKey key = keys.get(keyId);
+        if (key == null) {
+            throw new SecurityException("Unknown JWT key id: " + keyId);
+        }
+        return key;
+    }
+}
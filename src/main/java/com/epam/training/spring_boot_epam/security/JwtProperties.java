@@ -0,0 +1,49 @@
+package com.epam.training.spring_boot_epam.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.jwt")
+public class JwtProperties {
+
+    /**
+     * STATELESS trusts the signed claims and checks revocation against the in-memory denylist,
+     * DATABASE reloads the user and looks the token up in jwt_tokens on every request.
+     */
+    private ValidationMode validationMode = ValidationMode.STATELESS;
+
+    /**
+     * Id of the key new tokens are signed with. Every other key in {@link #keys} is still
+     * accepted for verification, which lets a key be rotated out without logging everyone off.
+     */
+    private String signingKeyId;
+
+    private List<Key> keys = new ArrayList<>();
+
+    private Duration refreshTokenTtl = Duration.ofDays(14);
+
+    /** Rows deleted per statement by the jwt_tokens purge. */
+    private int purgeBatchSize = 500;
+
+    public enum ValidationMode {
+        STATELESS,
+        DATABASE
+    }
+
+    @Getter
+    @Setter
+    public static class Key {
+
+        private String id;
+
+        /** Base64 encoded HMAC secret, at least 512 bits for HS512. */
+        private String secret;
+    }
+}
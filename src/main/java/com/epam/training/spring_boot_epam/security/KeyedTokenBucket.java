@@ -0,0 +1,79 @@
+package com.epam.training.spring_boot_epam.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket per key, implemented as GCRA: each key keeps only its theoretical arrival time
+ * and a permit is granted with a single CAS, so concurrent attempts on the same key never block.
+ * Keys are dropped only once idle for a full period, at which point their bucket would be full
+ * again anyway.
+ * <p>
+ * The number of tracked keys is bounded, but never by eviction: dropping a live key would let a
+ * spray of fresh keys reset the bucket of the key actually under attack. Once the bound is reached,
+ * tracked keys keep their buckets and any new key is treated as an exhausted bucket until idle
+ * keys expire, so a spray fails closed for at most one period instead of growing the map.
+ */
+public class KeyedTokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final long maximumKeys;
+    private final Cache<String, AtomicLong> arrivals;
+    private final LongSupplier clock;
+
+    public KeyedTokenBucket(LoginRateLimitProperties.Bucket bucket, long maximumKeys) {
+        this(bucket, maximumKeys, System::nanoTime);
+    }
+
+    KeyedTokenBucket(LoginRateLimitProperties.Bucket bucket, long maximumKeys, LongSupplier clock) {
+        this.maximumKeys = maximumKeys;
+        this.emissionIntervalNanos = bucket.getPeriod().toNanos() / bucket.getCapacity();
+        this.burstNanos = emissionIntervalNanos * bucket.getCapacity();
+        this.arrivals = Caffeine.newBuilder()
+                .expireAfterAccess(bucket.getPeriod())
+                .ticker(clock::getAsLong)
+                .build();
+        this.clock = clock;
+    }
+
+    public boolean tryAcquire(String key) {
+        long now = clock.getAsLong();
+        AtomicLong arrival = arrivals.getIfPresent(key);
+        if (arrival == null) {
+            if (isFull()) {
+                return false;
+            }
+            arrival = arrivals.get(key, k -> new AtomicLong(now - burstNanos));
+        }
+
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /** Concurrent first arrivals may overshoot the bound by at most one key each. */
+    private boolean isFull() {
+        if (arrivals.estimatedSize() < maximumKeys) {
+            return false;
+        }
+        // the estimate still counts expired keys until they are cleaned up
+        arrivals.cleanUp();
+        return arrivals.estimatedSize() >= maximumKeys;
+    }
+
+    public long estimatedSize() {
+        arrivals.cleanUp();
+        return arrivals.estimatedSize();
+    }
+}
@@ -0,0 +1,38 @@
+package com.epam.training.spring_boot_epam.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.login-rate-limit")
+public class LoginRateLimitProperties {
+
+    private Bucket username = new Bucket(5, Duration.ofMinutes(5));
+
+    private Bucket ip = new Bucket(30, Duration.ofMinutes(1));
+
+    /** Upper bound on tracked keys per limiter; past it, new keys are rejected until idle ones expire. */
+    private long maximumKeys = 100_000;
+
+    @Getter
+    @Setter
+    public static class Bucket {
+
+        /** Attempts allowed in a burst, refilled evenly over {@link #period}. */
+        private int capacity;
+
+        private Duration period;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.epam.training.spring_boot_epam.security;
+
+import com.epam.training.spring_boot_epam.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Limits login attempts per client IP and per username. The IP bucket is checked first so a
+ * username spray from one address is stopped without touching every sprayed username's bucket,
+ * and one user being attacked no longer locks everyone else out.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String REJECTION_MESSAGE = "Juda ko'p so'rov yubordingiz, 5 daqiqadan keyuin urinib ko'ring !";
+
+    private final KeyedTokenBucket ipBuckets;
+    private final KeyedTokenBucket usernameBuckets;
+    private final Counter ipAllowed;
+    private final Counter ipRejected;
+    private final Counter usernameAllowed;
+    private final Counter usernameRejected;
+
+    public LoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.ipBuckets = new KeyedTokenBucket(properties.getIp(), properties.getMaximumKeys());
+        this.usernameBuckets = new KeyedTokenBucket(properties.getUsername(), properties.getMaximumKeys());
+
+        this.ipAllowed = decisions(meterRegistry, "ip", "allowed");
+        this.ipRejected = decisions(meterRegistry, "ip", "rejected");
+        this.usernameAllowed = decisions(meterRegistry, "username", "allowed");
+        this.usernameRejected = decisions(meterRegistry, "username", "rejected");
+
+        Gauge.builder("auth.ratelimit.keys", ipBuckets, KeyedTokenBucket::estimatedSize)
+                .tag("limiter", "ip").register(meterRegistry);
+        Gauge.builder("auth.ratelimit.keys", usernameBuckets, KeyedTokenBucket::estimatedSize)
+                .tag("limiter", "username").register(meterRegistry);
+    }
+
+    public void acquire(String username, String clientIp) {
+        if (!ipBuckets.tryAcquire(clientIp)) {
+            ipRejected.increment();
+            throw new TooManyRequestsException(REJECTION_MESSAGE);
+        }
+        ipAllowed.increment();
+
+        if (!usernameBuckets.tryAcquire(username.toLowerCase(Locale.ROOT))) {
+            usernameRejected.increment();
+            throw new TooManyRequestsException(REJECTION_MESSAGE);
+        }
+        usernameAllowed.increment();
+    }
+
+    private static Counter decisions(MeterRegistry meterRegistry, String limiter, String outcome) {
+        return Counter.builder("auth.ratelimit.decisions")
+                .description("Login rate limiter decisions")
+                .tag("limiter", limiter)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
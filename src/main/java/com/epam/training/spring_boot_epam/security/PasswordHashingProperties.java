@@ -0,0 +1,31 @@
+package com.epam.training.spring_boot_epam.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.password-hashing")
+public class PasswordHashingProperties {
+
+    /** Worker threads for BCrypt, defaults to one per core since the work is purely CPU bound. */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /** Hash requests allowed to wait for a worker before new ones are rejected with 429. */
+    private int queueCapacity = 64;
+
+    /**
+     * Fixed BCrypt cost. When unset the cost is calibrated at startup against
+     * {@link #targetHashTime}, clamped to [{@link #minCost}, {@link #maxCost}].
+     */
+    private Integer cost;
+
+    private Duration targetHashTime = Duration.ofMillis(250);
+
+    private int minCost = 10;
+
+    private int maxCost = 14;
+}
@@ -1,7 +1,7 @@
 package com.epam.training.spring_boot_epam.security;
 
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
@@ -10,13 +10,18 @@ import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import com.epam.training.spring_boot_epam.security.service.impl.CustomUserDetailsService;
 
-import java.time.Duration;
+import java.util.Map;
 
 @Configuration
+@EnableConfigurationProperties({JwtProperties.class, UserCacheProperties.class, PasswordHashingProperties.class,
+        LoginRateLimitProperties.class})
 public class SecurityBeansConfig {
+    private static final String BCRYPT_ID = "bcrypt";
+
     private final CustomUserDetailsService customUserDetailsService;
 
     public SecurityBeansConfig(@Lazy CustomUserDetailsService customUserDetailsService) {
@@ -24,36 +29,32 @@ public class SecurityBeansConfig {
     }
 
     @Bean
-    public RateLimiterConfig rateLimiterConfig() {
-        return RateLimiterConfig.custom()
-                .limitForPeriod(5)
-                .limitRefreshPeriod(Duration.ofMinutes(5))
-                .timeoutDuration(Duration.ofMillis(100))
-                .build();
-    }
-
-    @Bean
-    public RateLimiter rateLimiter(RateLimiterConfig rateLimiterConfig) {
-        return RateLimiter.of("authLimit", rateLimiterConfig);
-    }
-
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties, MeterRegistry meterRegistry) {
+        int cost = passwordHashingProperties.getCost() != null
+                ? passwordHashingProperties.getCost()
+                : BCryptCostCalibrator.calibrate(passwordHashingProperties.getTargetHashTime(),
+                        passwordHashingProperties.getMinCost(), passwordHashingProperties.getMaxCost());
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(cost);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+        // hashes written before the {bcrypt} prefix was introduced are plain BCrypt strings
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegating, passwordHashingProperties, meterRegistry);
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(customUserDetailsService);
-        authenticationProvider.setPasswordEncoder(passwordEncoder());
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
+        authenticationProvider.setUserDetailsPasswordService(customUserDetailsService);
         return authenticationProvider;
     }
 
     @Bean
-    public AuthenticationManager authenticationManager() {
-        return new ProviderManager(authenticationProvider());
+    public AuthenticationManager authenticationManager(AuthenticationProvider authenticationProvider) {
+        return new ProviderManager(authenticationProvider);
     }
 
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.epam.training.spring_boot_epam.security;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,6 +26,7 @@ public class SecurityConfig {
 
     private static final String[] WHITE_URLS = new String[]{
             "/v1/auth/login",
+            "/v1/auth/refresh",
             "/swagger-ui/**",
             "/v3/api-docs/**",
             "/v2/api-docs/**",
@@ -42,6 +44,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(c -> c.configurationSource(customCorsConfiguration))
                 .authorizeHttpRequests(request -> request
+                        // async re-dispatch completes a streaming response that was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(WHITE_URLS).permitAll()
                         .requestMatchers(HttpMethod.POST, "/v1/trainers", "/v1/trainees").permitAll()
                         .anyRequest().authenticated())
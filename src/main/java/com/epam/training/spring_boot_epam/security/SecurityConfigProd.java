@@ -1,5 +1,6 @@
 package com.epam.training.spring_boot_epam.security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -51,7 +52,10 @@ public class SecurityConfigProd {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(c -> c.configurationSource(customCorsConfiguration))
                 .authorizeHttpRequests(request -> request
+                        // async re-dispatch completes a streaming response that was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(WHITE_URLS).permitAll()
+                        .requestMatchers("/v1/imports/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, DOMAIN_SPECIFIC_URLS).permitAll()
                         .requestMatchers(HttpMethod.POST, DOMAIN_SPECIFIC_URLS).hasRole("ADMIN")
                         .requestMatchers(HttpMethod.DELETE, DOMAIN_SPECIFIC_URLS).hasRole("ADMIN")
@@ -0,0 +1,63 @@
+package com.epam.training.spring_boot_epam.security;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local revocation list used by the stateless JWT validation mode.
+ * Holds revoked token ids until their natural expiry and, per user, a session watermark: tokens
+ * issued before it stop being accepted. The watermark keeps millisecond precision while a token's
+ * {@code iat} only has seconds, so the token that opened the session is matched by id instead.
+ */
+@Component
+public class TokenDenylist {
+
+    private final Map<String, Instant> revokedTokenIds = new ConcurrentHashMap<>();
+    private final Map<String, Watermark> sessionWatermarks = new ConcurrentHashMap<>();
+
+    public void revoke(String tokenId, Date expiresAt) {
+        if (tokenId != null && expiresAt != null) {
+            revokedTokenIds.put(tokenId, expiresAt.toInstant());
+        }
+    }
+
+    public void revokeIssuedBefore(String username, Date issuedAt, Date expiresAt) {
+        startSession(username, null, issuedAt, expiresAt);
+    }
+
+    /**
+     * Revokes the user's tokens issued before {@code issuedAt} except {@code tokenId}, the one
+     * issued at that instant. A later watermark is never replaced by an earlier one.
+     */
+    public void startSession(String username, String tokenId, Date issuedAt, Date expiresAt) {
+        sessionWatermarks.merge(username, new Watermark(issuedAt.toInstant(), tokenId, expiresAt.toInstant()),
+                (current, next) -> next.issuedAt().isBefore(current.issuedAt()) ? current : next);
+    }
+
+    public boolean isRevoked(String tokenId, String username, Date issuedAt) {
+        if (tokenId != null && revokedTokenIds.containsKey(tokenId)) {
+            return true;
+        }
+
+        Watermark watermark = sessionWatermarks.get(username);
+        if (watermark == null || (tokenId != null && tokenId.equals(watermark.tokenId()))) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.toInstant().isBefore(watermark.issuedAt());
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.denylist-purge-interval:PT1M}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        revokedTokenIds.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        sessionWatermarks.values().removeIf(watermark -> watermark.expiresAt().isBefore(now));
+    }
+
+    private record Watermark(Instant issuedAt, String tokenId, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.epam.training.spring_boot_epam.security;
+
+import com.epam.training.spring_boot_epam.repository.RefreshTokenDao;
+import com.epam.training.spring_boot_epam.repository.TokenDao;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Removes expired and logged out rows from jwt_tokens and refresh_tokens. Each batch runs in its own short
+ * transaction so the purge never holds locks on a large part of the table.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenPurgeJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenPurgeJob.class);
+
+    private final TokenDao tokenDao;
+    private final RefreshTokenDao refreshTokenDao;
+    private final JwtProperties jwtProperties;
+
+    @Scheduled(fixedDelayString = "${security.jwt.purge-interval:PT10M}")
+    public void purge() {
+        Instant now = Instant.now();
+
+        int accessTokens = purge(batchSize -> tokenDao.deleteExpiredBatch(now, batchSize));
+        int refreshTokens = purge(batchSize -> refreshTokenDao.deleteExpiredBatch(now, batchSize));
+
+        if (accessTokens + refreshTokens > 0) {
+            LOGGER.info("Purged {} expired access tokens and {} refresh tokens", accessTokens, refreshTokens);
+        }
+    }
+
+    private int purge(IntUnaryOperator deleteBatch) {
+        int batchSize = jwtProperties.getPurgeBatchSize();
+        int total = 0;
+        int deleted;
+
+        do {
+            deleted = deleteBatch.applyAsInt(batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        return total;
+    }
+}
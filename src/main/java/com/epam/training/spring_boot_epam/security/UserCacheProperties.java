@@ -0,0 +1,18 @@
+package com.epam.training.spring_boot_epam.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.user-cache")
+public class UserCacheProperties {
+
+    private long maximumSize = 10_000;
+
+    /** Upper bound on staleness should an invalidation ever be missed. */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
@@ -2,6 +2,7 @@ package com.epam.training.spring_boot_epam.security.service;
 
 import com.epam.training.spring_boot_epam.domain.User;
 import com.epam.training.spring_boot_epam.dto.request.PasswordChangeRequest;
+import com.epam.training.spring_boot_epam.dto.request.RefreshTokenRequest;
 import com.epam.training.spring_boot_epam.dto.response.TokenResponse;
 import jakarta.validation.Valid;
 import org.springframework.stereotype.Service;
@@ -11,6 +12,7 @@ import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
 @Service
 public interface AuthService {
     ApiResponse<TokenResponse> login(AuthLoginRequest loginDto);
+    ApiResponse<TokenResponse> refresh(RefreshTokenRequest request);
     ApiResponse<Void> logout(String token);
     ApiResponse<Void> changePassword(PasswordChangeRequest request);
 }
\ No newline at end of file
@@ -1,12 +1,20 @@
 package com.epam.training.spring_boot_epam.security.service;
 
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public interface JwtService {
     String generateToken(UserDetails userDetails);
     String extractUsername(String token);
+    Claims extractAllClaims(String token);
+    Optional<AuthenticatedUser> extractPrincipal(Claims claims);
     long getExpirationInSeconds();
-    boolean isTokenValid(String token, UserDetails userDetails);
-}
\ No newline at end of file
+    boolean isTokenRevoked(String token, Claims claims);
+    void revokeToken(Claims claims);
+    void revokeAllTokens(String username);
+}
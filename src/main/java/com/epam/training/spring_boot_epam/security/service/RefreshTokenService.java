@@ -0,0 +1,20 @@
+package com.epam.training.spring_boot_epam.security.service;
+
+public interface RefreshTokenService {
+
+    /** Starts a new rotation family, used on login. */
+    String issue(String username);
+
+    /**
+     * Consumes the given refresh token and returns its successor in the same family.
+     * Presenting a token that was already used revokes the whole family.
+     */
+    Rotation rotate(String refreshToken);
+
+    void revokeAll(String username);
+
+    long getExpirationInSeconds();
+
+    record Rotation(String username, String refreshToken) {
+    }
+}
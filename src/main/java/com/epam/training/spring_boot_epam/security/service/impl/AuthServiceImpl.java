@@ -2,23 +2,30 @@ package com.epam.training.spring_boot_epam.security.service.impl;
 
 import com.epam.training.spring_boot_epam.domain.Token;
 import com.epam.training.spring_boot_epam.dto.request.PasswordChangeRequest;
+import com.epam.training.spring_boot_epam.dto.request.RefreshTokenRequest;
 import com.epam.training.spring_boot_epam.dto.response.TokenResponse;
 import com.epam.training.spring_boot_epam.exception.AuthorizationException;
 import com.epam.training.spring_boot_epam.exception.DomainException;
 import com.epam.training.spring_boot_epam.repository.TokenDao;
+import com.epam.training.spring_boot_epam.security.AuthPhaseTimer;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import com.epam.training.spring_boot_epam.dto.request.AuthLoginRequest;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
-import com.epam.training.spring_boot_epam.domain.User;
 import com.epam.training.spring_boot_epam.repository.UserDao;
 import com.epam.training.spring_boot_epam.security.service.AuthService;
 import com.epam.training.spring_boot_epam.security.service.JwtService;
+import com.epam.training.spring_boot_epam.security.service.RefreshTokenService;
+import com.epam.training.spring_boot_epam.util.TokenDigests;
 
 @Service
 @RequiredArgsConstructor
@@ -30,30 +37,57 @@ public class AuthServiceImpl implements AuthService {
     private final JwtService jwtService;
     private final TokenDao tokenDao;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final AuthPhaseTimer authPhaseTimer;
 
     @Override
     public ApiResponse<TokenResponse> login(AuthLoginRequest loginDto) {
         try {
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword()));
+            Authentication authentication = authPhaseTimer.record(AuthPhaseTimer.LOGIN, "authenticate", () -> authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword())));
 
-            User authUser = userRepository.findByUsername(loginDto.getUsername())
-                    .orElseThrow(() -> new DomainException("User with username %s not found".formatted(loginDto.getUsername())));
+            // the provider already loaded the principal, no need to read the user again
+            AuthenticatedUser authUser = ((AuthenticatedUser) authentication.getPrincipal()).withoutCredentials();
 
-            String jwt = jwtService.generateToken(authUser);
-            long expiresIn = jwtService.getExpirationInSeconds();
+            TokenResponse tokens = authPhaseTimer.record(AuthPhaseTimer.LOGIN, "token_persist",
+                    () -> issueTokens(authUser, refreshTokenService.issue(authUser.getUsername())));
 
-            return new ApiResponse<>(true, "You logged in successfully", new TokenResponse(jwt, expiresIn));
+            return new ApiResponse<>(true, "You logged in successfully", tokens);
         } catch (DomainException e) {
             return new ApiResponse<>(false, "Authentication failed: " + e.getMessage(), null);
         }
     }
 
+    /**
+     * Renews the access token without touching the password hash: one digest lookup for the
+     * refresh token and one signature for the new JWT.
+     */
+    @Override
+    public ApiResponse<TokenResponse> refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+
+        UserDetails user = customUserDetailsService.loadUserByUsername(rotation.username());
+        if (!user.isEnabled()) {
+            refreshTokenService.revokeAll(user.getUsername());
+            throw new AuthorizationException("User is deactivated");
+        }
+
+        return new ApiResponse<>(true, "Token refreshed successfully", issueTokens(user, rotation.refreshToken()));
+    }
+
+    private TokenResponse issueTokens(UserDetails user, String refreshToken) {
+        String jwt = jwtService.generateToken(user);
+        return new TokenResponse(jwt, jwtService.getExpirationInSeconds(),
+                refreshToken, refreshTokenService.getExpirationInSeconds());
+    }
+
     @Override
     public ApiResponse<Void> logout(String token) {
-        String extractedUsername = jwtService.extractUsername(token);
+        Claims claims = jwtService.extractAllClaims(token);
+        String extractedUsername = claims.getSubject();
 
-        Token userToken = tokenDao.findByTokenAndExpiredFalse(token)
+        Token userToken = tokenDao.findByTokenHashAndExpiredFalse(TokenDigests.sha256Hex(token))
                 .orElseThrow(() -> new AuthorizationException("Token not found. Please login first"));
 
         if(!userToken.getUsername().equals(extractedUsername)) {
@@ -62,6 +96,8 @@ public class AuthServiceImpl implements AuthService {
 
         userToken.setExpired(true);
         tokenDao.save(userToken);
+        jwtService.revokeToken(claims);
+        refreshTokenService.revokeAll(extractedUsername);
 
         return new ApiResponse<>(true, "You logged out successfully", null);
     }
@@ -71,7 +107,7 @@ public class AuthServiceImpl implements AuthService {
         ApiResponse<Void> apiResponse = new ApiResponse<>();
         apiResponse.setData(null);
 
-        User user = userRepository.findByUsername(request.getUsername())
+        AuthenticatedUser user = userRepository.findPrincipalByUsername(request.getUsername())
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
         if(passwordEncoder.matches(request.getOldPassword(), user.getPassword())) {
@@ -80,6 +116,10 @@ public class AuthServiceImpl implements AuthService {
             }
 
             if (userRepository.updatePassword(request.getUsername(), passwordEncoder.encode(request.getNewPassword()))) {
+                // sessions opened with the old password must not outlive it
+                refreshTokenService.revokeAll(request.getUsername());
+                jwtService.revokeAllTokens(request.getUsername());
+
                 apiResponse.setMessage("Password changed successfully");
                 apiResponse.setSuccess(true);
                 return apiResponse;
@@ -1,26 +1,70 @@
 package com.epam.training.spring_boot_epam.security.service.impl;
 
-import lombok.RequiredArgsConstructor;
+import com.epam.training.spring_boot_epam.event.UserChangedEvent;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
+import com.epam.training.spring_boot_epam.security.UserCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 import com.epam.training.spring_boot_epam.exception.DomainException;
 import com.epam.training.spring_boot_epam.repository.UserDao;
 
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private static final String CACHE_NAME = "userDetails";
 
-    @Qualifier("userDao")
     private final UserDao userRepository;
+    private final Cache<String, AuthenticatedUser> userCache;
+
+    public CustomUserDetailsService(@Qualifier("userDao") UserDao userRepository,
+                                    UserCacheProperties userCacheProperties,
+                                    MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(userCacheProperties.getMaximumSize())
+                .expireAfterWrite(userCacheProperties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, CACHE_NAME);
+    }
 
     @Override
-    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository
-                .findByUsername(username)
-                .orElseThrow(() -> new DomainException("User with username %s not found".formatted(username)));
+    public AuthenticatedUser loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userCache.get(username, key -> userRepository
+                .findPrincipalByUsername(key)
+                .orElseThrow(() -> new DomainException("User with username %s not found".formatted(key))));
+    }
+
+    /**
+     * Called by the authentication provider after a successful login whose stored hash uses an
+     * outdated cost or format. The DAO update publishes a {@link UserChangedEvent}, which drops
+     * the cached entry.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+
+        if (user instanceof AuthenticatedUser principal) {
+            return principal.withPassword(newPassword);
+        }
+        return user;
+    }
+
+    /**
+     * Runs after the changing transaction commits, so a concurrent load cannot put the old row
+     * back into the cache once it has been evicted.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        userCache.invalidate(event.username());
     }
 }
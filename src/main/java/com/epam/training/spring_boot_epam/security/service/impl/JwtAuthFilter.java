@@ -1,68 +1,103 @@
 package com.epam.training.spring_boot_epam.security.service.impl;
 
+import com.epam.training.spring_boot_epam.security.AuthPhaseTimer;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
+import com.epam.training.spring_boot_epam.security.JwtProperties;
+import io.jsonwebtoken.Claims;
 import io.micrometer.common.util.StringUtils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 import com.epam.training.spring_boot_epam.security.service.JwtService;
 
 import java.io.IOException;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final List<String> SKIP_URLS = List.of(
+            "/v1/auth/login",
+            "/v1/auth/refresh",
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/v2/api-docs/**"
+    );
+
     private final JwtService jwtService;
     private final CustomUserDetailsService customUserDetailsService;
+    private final JwtProperties jwtProperties;
+    private final AuthPhaseTimer authPhaseTimer;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getPathInfo() != null ? request.getPathInfo() : request.getServletPath();
+        return SKIP_URLS.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String authHeader = request.getHeader("Authorization");
+        String jwt = authPhaseTimer.record(AuthPhaseTimer.FILTER, "header_parse", () -> bearerToken(request));
 
-        if (authHeader == null || authHeader.isBlank()) {
+        if (jwt == null || SecurityContextHolder.getContext().getAuthentication() != null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        if (!authHeader.startsWith("Bearer ")) {
-            filterChain.doFilter(request, response);
-            return;
-        }
+        Claims claims = authPhaseTimer.record(AuthPhaseTimer.FILTER, "signature_verify", () -> jwtService.extractAllClaims(jwt));
+        String username = claims.getSubject();
 
-        String jwt = authHeader.substring(7);
-        String username = jwtService.extractUsername(jwt);
+        if (StringUtils.isNotEmpty(username)
+                && !authPhaseTimer.record(AuthPhaseTimer.FILTER, "token_check", () -> jwtService.isTokenRevoked(jwt, claims))) {
+            AuthenticatedUser userDetails = authPhaseTimer.record(AuthPhaseTimer.FILTER, "user_load", () -> resolvePrincipal(claims));
+            SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
 
-        if (StringUtils.isNotEmpty(username) && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+                    userDetails.withoutCredentials(), null, userDetails.getAuthorities()
+            );
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities()
-                );
+            securityContext.setAuthentication(authenticationToken);
+            SecurityContextHolder.setContext(securityContext);
+        }
 
-                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        filterChain.doFilter(request, response);
+    }
 
-                securityContext.setAuthentication(authenticationToken);
-                SecurityContextHolder.setContext(securityContext);
-            }
+    private String bearerToken(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (authHeader == null || authHeader.isBlank() || !authHeader.startsWith(BEARER_PREFIX)) {
+            return null;
         }
 
-        filterChain.doFilter(request, response);
+        return authHeader.substring(BEARER_PREFIX.length());
+    }
+
+    private AuthenticatedUser resolvePrincipal(Claims claims) {
+        if (jwtProperties.getValidationMode() == JwtProperties.ValidationMode.STATELESS) {
+            return jwtService.extractPrincipal(claims)
+                    .orElseGet(() -> customUserDetailsService.loadUserByUsername(claims.getSubject()));
+        }
+
+        return customUserDetailsService.loadUserByUsername(claims.getSubject());
     }
 }
@@ -1,70 +1,80 @@
 package com.epam.training.spring_boot_epam.security.service.impl;
 
-import com.epam.training.spring_boot_epam.domain.Token;
+import com.epam.training.spring_boot_epam.event.UserChangedEvent;
 import com.epam.training.spring_boot_epam.exception.AuthorizationException;
 import com.epam.training.spring_boot_epam.repository.TokenDao;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
+import com.epam.training.spring_boot_epam.security.JwtKeyRing;
+import com.epam.training.spring_boot_epam.security.JwtProperties;
+import com.epam.training.spring_boot_epam.security.TokenDenylist;
+import com.epam.training.spring_boot_epam.util.TokenDigests;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 import com.epam.training.spring_boot_epam.security.service.JwtService;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class JwtServiceImpl implements JwtService {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String ACTIVE_CLAIM = "active";
+
     private final TokenDao tokenDao;
+    private final TokenDenylist tokenDenylist;
+    private final JwtProperties jwtProperties;
+    private final JwtKeyRing jwtKeyRing;
 
     @Override
     public String generateToken(UserDetails userDetails) {
-        String token = buildToken(new HashMap<>(), userDetails);
+        Date issuedAt = new Date(System.currentTimeMillis());
+        Date expiresAt = new Date(issuedAt.getTime() + 1000 * getExpirationInSeconds());
+        String tokenId = UUID.randomUUID().toString();
+        String token = buildToken(principalClaims(userDetails), userDetails, tokenId, issuedAt, expiresAt);
 
-        Token savedToken = new Token();
-        savedToken.setToken(token);
-        savedToken.setExpired(false);
-        savedToken.setUsername(userDetails.getUsername());
+        tokenDao.upsert(userDetails.getUsername(), TokenDigests.sha256Hex(token), expiresAt.toInstant());
 
-        tokenDao.deleteAll(tokenDao.findByUsername(userDetails.getUsername()));
+        tokenDenylist.startSession(userDetails.getUsername(), tokenId, issuedAt, expiresAt);
 
-        tokenDao.save(savedToken);
+        return token;
+    }
 
-        return savedToken.getToken();
+    private Map<String, Object> principalClaims(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof AuthenticatedUser user) {
+            claims.put(USER_ID_CLAIM, user.id());
+            claims.put(ROLE_CLAIM, user.role());
+            claims.put(ACTIVE_CLAIM, user.active());
+        }
+        return claims;
     }
 
-    private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return Jwts
-                .builder()
+    private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, String tokenId,
+                              Date issuedAt, Date expiresAt) {
+        return jwtKeyRing.signer()
                 .claims(extraClaims)
+                .id(tokenId)
                 .subject(userDetails.getUsername())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + 1000 * getExpirationInSeconds()))
-                .signWith(getSignKey(), Jwts.SIG.HS512)
+                .issuedAt(issuedAt)
+                .expiration(expiresAt)
                 .compact();
     }
 
-    private SecretKey getSignKey() {
-        String SECRET_KEY = "eyJhbGciOiJIUzUxMiJ9eyJSb2xlIjoiQWRtaW4iLCJJc3N1ZXIiOiJJc3N1ZXIiLCJVc2VybmFtZSI6IkphdmFJblVzZSIsImV4cCIMTcaqNDQ2ODA4MCwiaWF0IjoxNzA0NDY4MDgwfQLtk5Easw";
-        byte[] key = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(key);
-    }
-
-    private Claims extractAllClaims(String token) {
+    @Override
+    public Claims extractAllClaims(String token) {
         try {
-            return Jwts
-                    .parser()
-                    .verifyWith(getSignKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtKeyRing.parse(token);
         } catch (io.jsonwebtoken.ExpiredJwtException e) {
             throw new AuthorizationException("Token is expired. Please login again.");
         } catch (io.jsonwebtoken.JwtException e) {
@@ -78,27 +88,56 @@ public class JwtServiceImpl implements JwtService {
         return claims.getSubject();
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsTFunction) {
-        final Claims claims = extractAllClaims(token);
-        return claimsTFunction.apply(claims);
-    }
+    /**
+     * Builds the principal from the signed claims. Tokens issued before the claims
+     * were added carry no user id, the caller has to load the user for those.
+     */
+    @Override
+    public Optional<AuthenticatedUser> extractPrincipal(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return Optional.empty();
+        }
 
-    private boolean isTokenNonExpired(String token) {
-        return extractClaim(token, Claims::getExpiration).after(new Date());
+        return Optional.of(new AuthenticatedUser(userId, claims.getSubject(), null, role,
+                Boolean.TRUE.equals(claims.get(ACTIVE_CLAIM, Boolean.class))));
     }
 
     @Override
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
+    public boolean isTokenRevoked(String token, Claims claims) {
+        if (jwtProperties.getValidationMode() == JwtProperties.ValidationMode.DATABASE) {
+            return tokenDao.findByUsernameAndTokenHashAndExpiredFalse(claims.getSubject(), TokenDigests.sha256Hex(token)).isEmpty();
+        }
 
-        Token userToken = tokenDao.findByUsernameAndTokenAndExpiredFalse(username, token)
-                .orElseThrow(() -> new AuthorizationException("Please login first"));
+        return tokenDenylist.isRevoked(claims.getId(), claims.getSubject(), claims.getIssuedAt());
+    }
 
-        if(userToken.getExpired()){
-            throw new AuthorizationException("Expired token");
-        }
+    @Override
+    public void revokeToken(Claims claims) {
+        tokenDenylist.revoke(claims.getId(), claims.getExpiration());
+    }
+
+    /**
+     * Stops every access token issued to the user so far: the stored token row for the database
+     * mode, a session watermark for the stateless one. Tokens issued afterwards are not affected.
+     */
+    @Override
+    public void revokeAllTokens(String username) {
+        Date now = new Date(System.currentTimeMillis());
+        tokenDao.expireByUsername(username);
+        tokenDenylist.revokeIssuedBefore(username, now, new Date(now.getTime() + 1000 * getExpirationInSeconds()));
+    }
 
-        return username.equals(userDetails.getUsername()) && isTokenNonExpired(token);
+    /**
+     * The active flag is frozen into the token, so a deactivated or removed user would keep access
+     * until expiry. Runs after the change commits, otherwise a login racing it could be issued past
+     * the watermark while the user still reads as active; the row update then needs its own transaction.
+     */
+    @TransactionalEventListener(fallbackExecution = true, condition = "#event.revokeSessions()")
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onUserChanged(UserChangedEvent event) {
+        revokeAllTokens(event.username());
     }
 
     @Override
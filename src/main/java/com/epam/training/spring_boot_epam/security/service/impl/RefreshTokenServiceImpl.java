@@ -0,0 +1,83 @@
+package com.epam.training.spring_boot_epam.security.service.impl;
+
+import com.epam.training.spring_boot_epam.domain.RefreshToken;
+import com.epam.training.spring_boot_epam.exception.AuthorizationException;
+import com.epam.training.spring_boot_epam.repository.RefreshTokenDao;
+import com.epam.training.spring_boot_epam.security.JwtProperties;
+import com.epam.training.spring_boot_epam.security.service.RefreshTokenService;
+import com.epam.training.spring_boot_epam.util.TokenDigests;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenDao refreshTokenDao;
+    private final JwtProperties jwtProperties;
+
+    @Override
+    public String issue(String username) {
+        return issue(username, UUID.randomUUID().toString());
+    }
+
+    @Override
+    public Rotation rotate(String refreshToken) {
+        RefreshToken current = refreshTokenDao.findByTokenHash(TokenDigests.sha256Hex(refreshToken))
+                .orElseThrow(() -> new AuthorizationException("Invalid refresh token"));
+
+        if (current.getRevoked()) {
+            throw new AuthorizationException("Refresh token has been revoked. Please login again.");
+        }
+
+        if (current.getUsed() || refreshTokenDao.markUsed(current.getId()) == 0) {
+            LOGGER.warn("Refresh token reuse detected for {}, revoking family {}", current.getUsername(), current.getFamilyId());
+            refreshTokenDao.revokeFamily(current.getFamilyId());
+            throw new AuthorizationException("Refresh token has already been used. Please login again.");
+        }
+
+        if (current.getExpiresAt().isBefore(Instant.now())) {
+            throw new AuthorizationException("Refresh token is expired. Please login again.");
+        }
+
+        return new Rotation(current.getUsername(), issue(current.getUsername(), current.getFamilyId()));
+    }
+
+    @Override
+    public void revokeAll(String username) {
+        refreshTokenDao.revokeAllByUsername(username);
+    }
+
+    @Override
+    public long getExpirationInSeconds() {
+        return jwtProperties.getRefreshTokenTtl().toSeconds();
+    }
+
+    private String issue(String username, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(TokenDigests.sha256Hex(token));
+        refreshToken.setUsername(username);
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setExpiresAt(Instant.now().plus(jwtProperties.getRefreshTokenTtl()));
+        refreshToken.setUsed(false);
+        refreshToken.setRevoked(false);
+        refreshTokenDao.save(refreshToken);
+
+        return token;
+    }
+}
@@ -0,0 +1,25 @@
+package com.epam.training.spring_boot_epam.service;
+
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportFormat;
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportType;
+import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
+import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.dto.response.ImportJobDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public interface BulkImportService {
+
+    /**
+     * Spools {@code body} to a temporary file and queues it for processing. Returns as soon as
+     * the upload is stored; progress is read back through {@link #getJob(String)}.
+     */
+    ApiResponse<ImportJobDTO> submit(ImportType type, ImportFormat format, InputStream body) throws IOException;
+
+    ApiResponse<ImportJobDTO> getJob(String id);
+
+    /** Generated usernames and passwords of imported profiles; each credential is returned only once. */
+    ApiResponse<List<AuthDTO>> collectCredentials(String id);
+}
@@ -10,8 +10,8 @@ import org.springframework.stereotype.Service;
 
 @Service("trainerService")
 public interface TrainerService {
-    void checkAuthProfile(String headerUsername, String password, String username);
-    void checkAuthProfile(String headerUsername, String password, Long id);
+    void checkAuthProfile(String headerUsername, String username);
+    void checkAuthProfile(String headerUsername, Long id);
     ApiResponse<TrainerDTO> getProfile(String username);
     Trainer getByUsername(String username);
     ApiResponse<TrainerDTO> updateProfile(TrainerDTO dto, Long id);
@@ -4,17 +4,27 @@ import com.epam.training.spring_boot_epam.dto.TrainingDTO;
 import com.epam.training.spring_boot_epam.dto.filters.TraineeTrainingsFilter;
 import com.epam.training.spring_boot_epam.dto.filters.TrainerTrainingsFilter;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.dto.response.CursorPage;
 import com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO;
 import com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
 @Service("trainingService")
 public interface TrainingService {
-    ApiResponse<List<TraineeFilterResponseDTO>> getTraineeTrainings(TraineeTrainingsFilter filter);
+    ApiResponse<CursorPage<TraineeFilterResponseDTO>> getTraineeTrainings(TraineeTrainingsFilter filter);
 
-    ApiResponse<List<TrainerFilterResponseDTO>> getTrainerTrainings(TrainerTrainingsFilter filter);
+    ApiResponse<CursorPage<TrainerFilterResponseDTO>> getTrainerTrainings(TrainerTrainingsFilter filter);
+
+    /**
+     * Writes every matching training as newline-delimited JSON, reading the result set
+     * incrementally so memory use does not depend on the size of the history.
+     */
+    void streamTraineeTrainings(TraineeTrainingsFilter filter, OutputStream out) throws IOException;
+
+    void streamTrainerTrainings(TrainerTrainingsFilter filter, String trainerUsername, OutputStream out) throws IOException;
 
     ApiResponse<Void> addTraining(TrainingDTO dto);
 }
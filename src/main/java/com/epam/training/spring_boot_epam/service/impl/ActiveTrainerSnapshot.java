@@ -0,0 +1,117 @@
+package com.epam.training.spring_boot_epam.service.impl;
+
+import com.epam.training.spring_boot_epam.domain.Trainer;
+import com.epam.training.spring_boot_epam.event.TrainersChangedEvent;
+import com.epam.training.spring_boot_epam.repository.TrainerDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local copy of the active trainers grouped by specialization, so listing the trainers a
+ * trainee is not assigned to is a set difference against the trainee's links instead of a
+ * trainer table scan per request.
+ * <p>
+ * Trainer changes made through this node invalidate it once their transaction commits and the
+ * next read reloads it; the periodic refresh bounds how long changes made by other nodes stay
+ * invisible.
+ */
+@Component
+public class ActiveTrainerSnapshot {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ActiveTrainerSnapshot.class);
+
+    private final TrainerDao trainerDao;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public ActiveTrainerSnapshot(TrainerDao trainerDao) {
+        this.trainerDao = trainerDao;
+    }
+
+    /**
+     * Active trainers keyed by training type id, in training type order; trainers without a
+     * specialization sit under a {@code null} key.
+     */
+    public Map<Long, List<ActiveTrainer>> bySpecialization() {
+        Snapshot current = snapshot;
+        if (current == null || current.generation() != generation.get()) {
+            current = reload();
+        }
+        return current.trainers();
+    }
+
+    public List<ActiveTrainer> excluding(Set<Long> trainerIds) {
+        List<ActiveTrainer> result = new ArrayList<>();
+        for (List<ActiveTrainer> group : bySpecialization().values()) {
+            for (ActiveTrainer trainer : group) {
+                if (!trainerIds.contains(trainer.id())) {
+                    result.add(trainer);
+                }
+            }
+        }
+        return result;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrainersChanged(TrainersChangedEvent event) {
+        invalidate();
+    }
+
+    @Scheduled(fixedDelayString = "${trainers.snapshot.refresh-interval:PT5M}")
+    public void refresh() {
+        invalidate();
+        reload();
+    }
+
+    /**
+     * Loads under the generation seen on entry; an invalidation arriving while the query runs
+     * bumps the generation past it, so the next read loads again instead of keeping stale rows.
+     */
+    private synchronized Snapshot reload() {
+        long target = generation.get();
+        Snapshot current = snapshot;
+        if (current != null && current.generation() == target) {
+            return current;
+        }
+
+        Map<Long, List<ActiveTrainer>> grouped = new LinkedHashMap<>();
+        int count = 0;
+        for (Trainer trainer : trainerDao.findAllActive()) {
+            Long trainingTypeId = trainer.getSpecialization() == null ? null : trainer.getSpecialization().getId();
+            grouped.computeIfAbsent(trainingTypeId, key -> new ArrayList<>()).add(new ActiveTrainer(
+                    trainer.getId(),
+                    trainer.getUser().getUsername(),
+                    trainer.getUser().getFirstName(),
+                    trainer.getUser().getLastName(),
+                    trainingTypeId));
+            count++;
+        }
+        grouped.replaceAll((trainingTypeId, trainers) -> List.copyOf(trainers));
+
+        Snapshot loaded = new Snapshot(target, Collections.unmodifiableMap(grouped));
+        snapshot = loaded;
+        LOGGER.debug("Loaded {} active trainers in {} specializations", count, grouped.size());
+        return loaded;
+    }
+
+    public record ActiveTrainer(Long id, String username, String firstName, String lastName, Long trainingTypeId) {
+    }
+
+    private record Snapshot(long generation, Map<Long, List<ActiveTrainer>> trainers) {
+    }
+}
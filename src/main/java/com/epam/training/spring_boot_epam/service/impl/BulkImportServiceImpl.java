@@ -0,0 +1,398 @@
+package com.epam.training.spring_boot_epam.service.impl;
+
+import com.epam.training.spring_boot_epam.config.ImportProperties;
+import com.epam.training.spring_boot_epam.domain.Trainee;
+import com.epam.training.spring_boot_epam.domain.Trainer;
+import com.epam.training.spring_boot_epam.domain.TrainingType;
+import com.epam.training.spring_boot_epam.domain.User;
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportFormat;
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportType;
+import com.epam.training.spring_boot_epam.dto.TrainingDTO;
+import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
+import com.epam.training.spring_boot_epam.dto.request.TraineeCreateDTO;
+import com.epam.training.spring_boot_epam.dto.request.TrainerCreateDTO;
+import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.dto.response.ImportJobDTO;
+import com.epam.training.spring_boot_epam.exception.DomainException;
+import com.epam.training.spring_boot_epam.exception.ForbiddenException;
+import com.epam.training.spring_boot_epam.exception.TooManyRequestsException;
+import com.epam.training.spring_boot_epam.repository.TraineeDao;
+import com.epam.training.spring_boot_epam.repository.TrainerDao;
+import com.epam.training.spring_boot_epam.repository.TrainingTypeDao;
+import com.epam.training.spring_boot_epam.repository.UserDao;
+import com.epam.training.spring_boot_epam.security.BoundedPasswordEncoder;
+import com.epam.training.spring_boot_epam.service.BulkImportService;
+import com.epam.training.spring_boot_epam.util.CredentialsGenerator;
+import com.epam.training.spring_boot_epam.util.DomainUtils;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of trainees, trainers and trainings from CSV or NDJSON. The upload is spooled to
+ * disk, then read record by record on a worker thread and written in chunks: each chunk gets its
+ * usernames from one lookup, its passwords hashed in parallel and its rows inserted as JDBC batches.
+ * Bad rows are reported on the job and do not stop the rest of the file.
+ */
+@Service
+public class BulkImportServiceImpl implements BulkImportService, DisposableBean {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkImportServiceImpl.class);
+    private static final int SPOOL_BUFFER_SIZE = 64 * 1024;
+
+    private final TraineeDao traineeDao;
+    private final TrainerDao trainerDao;
+    private final TrainingTypeDao trainingTypeDao;
+    private final UserDao userDao;
+    private final BulkImportWriter writer;
+    private final PasswordEncoder passwordEncoder;
+    private final DomainUtils domainUtils;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final ImportProperties properties;
+    private final ThreadPoolExecutor executor;
+    // queued and running jobs, bounded by the executor's threads and queue; never evicted
+    private final Map<String, ImportJob> activeJobs = new ConcurrentHashMap<>();
+    private final Cache<String, ImportJob> finishedJobs;
+
+    public BulkImportServiceImpl(TraineeDao traineeDao, TrainerDao trainerDao, TrainingTypeDao trainingTypeDao,
+                                 UserDao userDao, BulkImportWriter writer, PasswordEncoder passwordEncoder,
+                                 DomainUtils domainUtils, Validator validator, ObjectMapper objectMapper,
+                                 ImportProperties properties) {
+        this.traineeDao = traineeDao;
+        this.trainerDao = trainerDao;
+        this.trainingTypeDao = trainingTypeDao;
+        this.userDao = userDao;
+        this.writer = writer;
+        this.passwordEncoder = passwordEncoder;
+        this.domainUtils = domainUtils;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder().findAndAddModules().build();
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.getWorkerThreads(), properties.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new ImportThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.finishedJobs = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxJobs())
+                .expireAfterWrite(properties.getJobRetention())
+                .build();
+    }
+
+    @Override
+    public ApiResponse<ImportJobDTO> submit(ImportType type, ImportFormat format, InputStream body) throws IOException {
+        String owner = domainUtils.getCurrentUser().getUsername();
+        LOGGER.info("Request to import {} as {} by {}", type, format, owner);
+
+        Path file = spool(body);
+        ImportJob job = new ImportJob(owner, type, format, properties.getMaxReportedErrors());
+        activeJobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, file));
+        } catch (RejectedExecutionException e) {
+            activeJobs.remove(job.getId());
+            Files.deleteIfExists(file);
+            throw new TooManyRequestsException("Too many imports in progress, please retry later");
+        }
+
+        return new ApiResponse<>(true, "Import accepted", job.toDto());
+    }
+
+    @Override
+    public ApiResponse<ImportJobDTO> getJob(String id) {
+        return new ApiResponse<>(true, null, getOwnedJob(id).toDto());
+    }
+
+    @Override
+    public ApiResponse<List<AuthDTO>> collectCredentials(String id) {
+        return new ApiResponse<>(true, null, getOwnedJob(id).collectCredentials());
+    }
+
+    private ImportJob getOwnedJob(String id) {
+        ImportJob job = activeJobs.get(id);
+        if (job == null) {
+            job = finishedJobs.getIfPresent(id);
+        }
+        if (job == null) {
+            throw new DomainException("Import not found: " + id);
+        }
+        if (!job.getOwner().equals(domainUtils.getCurrentUser().getUsername())) {
+            throw new ForbiddenException("You dont have permission to access this import");
+        }
+        return job;
+    }
+
+    private Path spool(InputStream body) throws IOException {
+        long limit = properties.getMaxUploadSize().toBytes();
+        Path file = Files.createTempFile("import-", ".upload");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[SPOOL_BUFFER_SIZE];
+            long total = 0;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > limit) {
+                    throw new DomainException("Import is larger than " + properties.getMaxUploadSize());
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private void run(ImportJob job, Path file) {
+        job.start();
+        try {
+            switch (job.getType()) {
+                case TRAINEES -> process(job, file, TraineeCreateDTO.class, this::writeTrainees);
+                case TRAINERS -> process(job, file, TrainerCreateDTO.class, this::writeTrainers);
+                case TRAININGS -> process(job, file, TrainingDTO.class, this::writeTrainings);
+            }
+            job.complete();
+        } catch (JsonParseException e) {
+            job.fail("Malformed input, import stopped: " + e.getOriginalMessage());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Import {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            // retention starts now; added before the removal so lookups never miss the job
+            finishedJobs.put(job.getId(), job);
+            activeJobs.remove(job.getId());
+            deleteQuietly(file);
+        }
+        LOGGER.info("Import {} finished: {}", job.getId(), job.getStatus());
+    }
+
+    /**
+     * Reads the file one record at a time and hands validated rows to {@code chunkWriter} in
+     * chunks. Records that fail to bind or validate are reported and skipped; a syntax error
+     * leaves the reader unable to find the next record and ends the import.
+     */
+    private <T> void process(ImportJob job, Path file, Class<T> rowType, ChunkWriter<T> chunkWriter) throws IOException {
+        int chunkSize = properties.getChunkSize();
+        List<ImportRow<T>> chunk = new ArrayList<>(chunkSize);
+        long rowNumber = 0;
+
+        try (MappingIterator<T> records = readerFor(job.getFormat(), rowType).readValues(file.toFile())) {
+            while (records.hasNextValue()) {
+                rowNumber++;
+                T value;
+                try {
+                    value = records.nextValue();
+                } catch (JsonParseException e) {
+                    job.rowFailed(rowNumber, e.getOriginalMessage());
+                    throw e;
+                } catch (JsonMappingException e) {
+                    job.rowFailed(rowNumber, e.getOriginalMessage());
+                    continue;
+                }
+
+                String violations = validate(value);
+                if (violations != null) {
+                    job.rowFailed(rowNumber, violations);
+                    continue;
+                }
+
+                chunk.add(new ImportRow<>(rowNumber, value));
+                if (chunk.size() == chunkSize) {
+                    writeChunk(job, chunk, chunkWriter);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(job, chunk, chunkWriter);
+        }
+    }
+
+    private ObjectReader readerFor(ImportFormat format, Class<?> rowType) {
+        return switch (format) {
+            case CSV -> csvMapper.readerFor(rowType).with(CsvSchema.emptySchema().withHeader());
+            case NDJSON -> objectMapper.readerFor(rowType);
+        };
+    }
+
+    private String validate(Object value) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(value);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private <T> void writeChunk(ImportJob job, List<ImportRow<T>> chunk, ChunkWriter<T> chunkWriter) {
+        try {
+            chunkWriter.write(job, chunk);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Import {} rejected a chunk of {} rows", job.getId(), chunk.size(), e);
+            String message = "Rejected with its chunk: " + e.getMessage();
+            chunk.forEach(row -> job.rowFailed(row.number(), message));
+        }
+    }
+
+    private void writeTrainees(ImportJob job, List<ImportRow<TraineeCreateDTO>> rows) {
+        List<String> usernames = allocateUsernames(rows.stream()
+                .map(row -> CredentialsGenerator.baseUsername(row.value().getFirstName(), row.value().getLastName()))
+                .toList());
+        List<String> passwords = generatePasswords(rows.size());
+        List<String> hashes = encodeAll(passwords);
+
+        List<Trainee> trainees = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            TraineeCreateDTO dto = rows.get(i).value();
+            Trainee trainee = new Trainee(new User(dto.getFirstName(), dto.getLastName(), true), dto.getBirthDate(), dto.getAddress());
+            trainee.getUser().setUsername(usernames.get(i));
+            trainee.getUser().setPassword(hashes.get(i));
+            trainees.add(trainee);
+        }
+
+        traineeDao.saveAll(trainees);
+        job.profilesCreated(credentials(usernames, passwords));
+    }
+
+    private void writeTrainers(ImportJob job, List<ImportRow<TrainerCreateDTO>> rows) {
+        Map<Long, TrainingType> trainingTypes = trainingTypeDao.findAll().stream()
+                .collect(Collectors.toMap(TrainingType::getId, Function.identity()));
+
+        List<ImportRow<TrainerCreateDTO>> accepted = new ArrayList<>(rows.size());
+        for (ImportRow<TrainerCreateDTO> row : rows) {
+            if (trainingTypes.containsKey(row.value().getTrainingTypeId())) {
+                accepted.add(row);
+            } else {
+                job.rowFailed(row.number(), "Training type not found: " + row.value().getTrainingTypeId());
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<String> usernames = allocateUsernames(accepted.stream()
+                .map(row -> CredentialsGenerator.baseUsername(row.value().getFirstName(), row.value().getLastName()))
+                .toList());
+        List<String> passwords = generatePasswords(accepted.size());
+        List<String> hashes = encodeAll(passwords);
+
+        List<Trainer> trainers = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            TrainerCreateDTO dto = accepted.get(i).value();
+            Trainer trainer = new Trainer(new User(dto.getFirstName(), dto.getLastName(), true), trainingTypes.get(dto.getTrainingTypeId()));
+            trainer.getUser().setUsername(usernames.get(i));
+            trainer.getUser().setPassword(hashes.get(i));
+            trainers.add(trainer);
+        }
+
+        trainerDao.saveAll(trainers);
+        job.profilesCreated(credentials(usernames, passwords));
+    }
+
+    private void writeTrainings(ImportJob job, List<ImportRow<TrainingDTO>> rows) {
+        Map<Long, String> errors = writer.saveTrainings(rows);
+        errors.forEach(job::rowFailed);
+        job.rowsSucceeded(rows.size() - errors.size());
+    }
+
+    /**
+     * Same names {@code createProfile} would pick, resolved with one query for the whole chunk
+     * instead of one existence check per candidate.
+     */
+    private List<String> allocateUsernames(List<String> baseUsernames) {
+        Set<String> taken = userDao.findUsernamesStartingWith(baseUsernames);
+        return baseUsernames.stream()
+                .map(base -> CredentialsGenerator.claimNextFreeUsername(base, taken))
+                .toList();
+    }
+
+    private static List<String> generatePasswords(int count) {
+        List<String> passwords = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            passwords.add(CredentialsGenerator.password());
+        }
+        return passwords;
+    }
+
+    private List<String> encodeAll(List<String> passwords) {
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedPasswordEncoder) {
+            return boundedPasswordEncoder.encodeAll(passwords);
+        }
+        return passwords.stream().map(passwordEncoder::encode).toList();
+    }
+
+    private static List<AuthDTO> credentials(List<String> usernames, List<String> passwords) {
+        List<AuthDTO> credentials = new ArrayList<>(usernames.size());
+        for (int i = 0; i < usernames.size(); i++) {
+            credentials.add(new AuthDTO(usernames.get(i), passwords.get(i)));
+        }
+        return credentials;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete import spool file {}", file, e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        void write(ImportJob job, List<ImportRow<T>> rows);
+    }
+
+    private static class ImportThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "bulk-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
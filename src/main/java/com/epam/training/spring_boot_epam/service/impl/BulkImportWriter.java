@@ -0,0 +1,77 @@
+package com.epam.training.spring_boot_epam.service.impl;
+
+import com.epam.training.spring_boot_epam.domain.Trainee;
+import com.epam.training.spring_boot_epam.domain.Trainer;
+import com.epam.training.spring_boot_epam.domain.Training;
+import com.epam.training.spring_boot_epam.dto.TrainingDTO;
+import com.epam.training.spring_boot_epam.mapper.TrainingMapper;
+import com.epam.training.spring_boot_epam.repository.TraineeDao;
+import com.epam.training.spring_boot_epam.repository.TrainerDao;
+import com.epam.training.spring_boot_epam.repository.TrainingDao;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional half of the training import: resolves a chunk's trainers and trainees with one
+ * query each, inserts the trainings and links their trainees and trainers with one more statement
+ * instead of loading each trainee's trainer list like {@link TrainingServiceImpl#addTraining}.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkImportWriter {
+
+    private final TraineeDao traineeDao;
+    private final TrainerDao trainerDao;
+    private final TrainingDao trainingDao;
+    private final TrainingMapper trainingMapper;
+
+    /**
+     * @return error message per row number for rows that referenced unknown profiles;
+     * every other row of the chunk has been inserted
+     */
+    @Transactional
+    public Map<Long, String> saveTrainings(List<ImportRow<TrainingDTO>> rows) {
+        Map<String, Trainee> trainees = traineeDao.findAllByUsernames(
+                        rows.stream().map(row -> row.value().getTraineeUsername()).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(trainee -> trainee.getUser().getUsername(), Function.identity()));
+        Map<String, Trainer> trainers = trainerDao.findAllByUsernames(
+                        rows.stream().map(row -> row.value().getTrainerUsername()).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(trainer -> trainer.getUser().getUsername(), Function.identity()));
+
+        Map<Long, String> errors = new LinkedHashMap<>();
+        List<Training> trainings = new ArrayList<>(rows.size());
+        for (ImportRow<TrainingDTO> row : rows) {
+            TrainingDTO dto = row.value();
+            Trainee trainee = trainees.get(dto.getTraineeUsername());
+            Trainer trainer = trainers.get(dto.getTrainerUsername());
+            if (trainee == null) {
+                errors.put(row.number(), "Trainee not found: " + dto.getTraineeUsername());
+                continue;
+            }
+            if (trainer == null) {
+                errors.put(row.number(), "Trainer not found: " + dto.getTrainerUsername());
+                continue;
+            }
+
+            Training training = trainingMapper.toEntity(dto);
+            training.setTrainer(trainer);
+            training.setTrainee(trainee);
+            training.setTrainingType(trainer.getSpecialization());
+            trainings.add(training);
+        }
+
+        trainingDao.saveAll(trainings);
+        traineeDao.linkTrainersOfTrainings(trainings.stream().map(Training::getId).toList());
+        return errors;
+    }
+}
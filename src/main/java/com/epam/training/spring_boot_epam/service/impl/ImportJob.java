@@ -0,0 +1,113 @@
+package com.epam.training.spring_boot_epam.service.impl;
+
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportFormat;
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportStatus;
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportType;
+import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
+import com.epam.training.spring_boot_epam.dto.response.ImportJobDTO;
+import com.epam.training.spring_boot_epam.dto.response.ImportRowErrorDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one bulk import. Written by the import worker and read by status requests,
+ * so counters are atomic and the lists are only touched under the job's monitor.
+ */
+class ImportJob {
+
+    private final String id = UUID.randomUUID().toString();
+    private final String owner;
+    private final ImportType type;
+    private final ImportFormat format;
+    private final int maxReportedErrors;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicLong succeededRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<ImportRowErrorDTO> errors = new ArrayList<>();
+    private final List<AuthDTO> credentials = new ArrayList<>();
+
+    private volatile ImportStatus status = ImportStatus.QUEUED;
+    private volatile String failureMessage;
+    private volatile LocalDateTime finishedAt;
+
+    ImportJob(String owner, ImportType type, ImportFormat format, int maxReportedErrors) {
+        this.owner = owner;
+        this.type = type;
+        this.format = format;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getOwner() {
+        return owner;
+    }
+
+    ImportType getType() {
+        return type;
+    }
+
+    ImportFormat getFormat() {
+        return format;
+    }
+
+    ImportStatus getStatus() {
+        return status;
+    }
+
+    void start() {
+        status = ImportStatus.RUNNING;
+    }
+
+    void rowsSucceeded(int count) {
+        succeededRows.addAndGet(count);
+    }
+
+    synchronized void profilesCreated(List<AuthDTO> created) {
+        credentials.addAll(created);
+        succeededRows.addAndGet(created.size());
+    }
+
+    synchronized void rowFailed(long row, String message) {
+        failedRows.incrementAndGet();
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new ImportRowErrorDTO(row, message));
+        }
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = ImportStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        failureMessage = message;
+        finishedAt = LocalDateTime.now();
+        status = ImportStatus.FAILED;
+    }
+
+    boolean isFinished() {
+        return status == ImportStatus.COMPLETED || status == ImportStatus.FAILED;
+    }
+
+    /** Hands out the generated passwords once; they are not kept after this call. */
+    synchronized List<AuthDTO> collectCredentials() {
+        List<AuthDTO> collected = List.copyOf(credentials);
+        credentials.clear();
+        return collected;
+    }
+
+    synchronized ImportJobDTO toDto() {
+        long succeeded = succeededRows.get();
+        long failed = failedRows.get();
+        return new ImportJobDTO(id, type, format, status, succeeded + failed, succeeded, failed,
+                List.copyOf(errors), failureMessage, !credentials.isEmpty(), createdAt, finishedAt);
+    }
+}
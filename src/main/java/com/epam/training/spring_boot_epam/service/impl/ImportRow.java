@@ -0,0 +1,5 @@
+package com.epam.training.spring_boot_epam.service.impl;
+
+/** A parsed and validated record together with its 1-based position in the upload. */
+record ImportRow<T>(long number, T value) {
+}
@@ -0,0 +1,42 @@
+package com.epam.training.spring_boot_epam.service.impl;
+
+import com.epam.training.spring_boot_epam.config.TraineePurgeProperties;
+import com.epam.training.spring_boot_epam.repository.TraineeDao;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Permanently deletes deactivated trainees. Works through them in batches of
+ * {@link TraineePurgeProperties#getBatchSize()}, each deleted with the fixed statement pipeline of
+ * {@link TraineeDao#deleteAllByIds} in its own short transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class TraineePurgeJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TraineePurgeJob.class);
+
+    private final TraineeDao traineeDao;
+    private final TraineePurgeProperties properties;
+
+    @Scheduled(cron = "${trainees.purge.cron:-}")
+    public void purge() {
+        int batchSize = properties.getBatchSize();
+        int total = 0;
+        List<Long> ids;
+
+        do {
+            ids = traineeDao.findDeactivatedIds(batchSize);
+            total += traineeDao.deleteAllByIds(ids);
+        } while (ids.size() == batchSize);
+
+        if (total > 0) {
+            LOGGER.info("Purged {} deactivated trainees", total);
+        }
+    }
+}
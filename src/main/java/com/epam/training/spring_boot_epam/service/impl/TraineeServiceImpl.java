@@ -2,7 +2,6 @@ package com.epam.training.spring_boot_epam.service.impl;
 
 import com.epam.training.spring_boot_epam.domain.Trainee;
 import com.epam.training.spring_boot_epam.domain.Trainer;
-import com.epam.training.spring_boot_epam.domain.Training;
 import com.epam.training.spring_boot_epam.domain.User;
 import com.epam.training.spring_boot_epam.dto.TraineeDTO;
 import com.epam.training.spring_boot_epam.dto.TrainerDTO;
@@ -12,6 +11,7 @@ import com.epam.training.spring_boot_epam.dto.request.TraineeCreateDTO;
 import com.epam.training.spring_boot_epam.dto.request.TraineeTrainersUpdate;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
 import com.epam.training.spring_boot_epam.dto.response.GetTraineeTrainerDTO;
+import com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO;
 import com.epam.training.spring_boot_epam.exception.DomainException;
 import com.epam.training.spring_boot_epam.exception.ForbiddenException;
 import com.epam.training.spring_boot_epam.mapper.TraineeMapper;
@@ -19,6 +19,7 @@ import com.epam.training.spring_boot_epam.mapper.TrainerMapper;
 import com.epam.training.spring_boot_epam.repository.TraineeDao;
 import com.epam.training.spring_boot_epam.repository.UserDao;
 import com.epam.training.spring_boot_epam.service.TraineeService;
+import com.epam.training.spring_boot_epam.util.CredentialsGenerator;
 import com.epam.training.spring_boot_epam.util.DomainUtils;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -29,7 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Random;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,13 +46,14 @@ public class TraineeServiceImpl implements TraineeService {
     private final PasswordEncoder passwordEncoder;
     private final DomainUtils domainUtils;
     private final TrainerServiceImpl trainerService;
+    private final ActiveTrainerSnapshot activeTrainerSnapshot;
 
     @Override
     @Transactional(readOnly = false)
     public ApiResponse<AuthDTO> createProfile(TraineeCreateDTO dto) {
         LOGGER.info("Request to create {} profile with data: {}", ENTITY_NAME, dto);
 
-        String generatedPassword = generatePassword();
+        String generatedPassword = CredentialsGenerator.password();
 
         Trainee trainee = new Trainee(new User(dto.getFirstName(), dto.getLastName(), true), dto.getBirthDate(), dto.getAddress());
         trainee.getUser().setUsername(generateUsername(dto.getFirstName(), dto.getLastName()));
@@ -66,9 +68,9 @@ public class TraineeServiceImpl implements TraineeService {
     public ApiResponse<TraineeDTO> getProfile(String username) {
         LOGGER.info("Request to get {} profile with username: {}", ENTITY_NAME, username);
 
-        checkAuthProfile(domainUtils.getCurrentUser().getUsername(), domainUtils.getCurrentUser().getPassword(), username);
+        checkAuthProfile(domainUtils.getCurrentUser().getUsername(), username);
 
-        Trainee trainee = traineeDao.findByUsername(username)
+        Trainee trainee = traineeDao.findProfileByUsername(username)
                 .orElseThrow(() -> new DomainException("Trainee not found: " + username));
 
         TraineeDTO dto = traineeMapper.toDto(trainee);
@@ -84,10 +86,10 @@ public class TraineeServiceImpl implements TraineeService {
     }
 
     @Override
-    public void checkAuthProfile(String headerUsername, String password, String username) {
+    public void checkAuthProfile(String headerUsername, String username) {
         Trainee trainee = getByUsername(username);
 
-        if(trainee.getUser().getUsername().equals(headerUsername) && trainee.getUser().getPassword().equals(password)) {
+        if(trainee.getUser().getUsername().equals(headerUsername)) {
             return;
         }
 
@@ -95,10 +97,10 @@ public class TraineeServiceImpl implements TraineeService {
     }
 
     @Override
-    public void checkAuthProfile(String headerUsername, String password, Long id) {
+    public void checkAuthProfile(String headerUsername, Long id) {
         Trainee trainee = traineeDao.findById(id).orElseThrow(() -> new DomainException("Trainee not found: " + id));
 
-        if(trainee.getUser().getUsername().equals(headerUsername) && trainee.getUser().getPassword().equals(password)) {
+        if(trainee.getUser().getUsername().equals(headerUsername)) {
             return;
         }
 
@@ -165,18 +167,18 @@ public class TraineeServiceImpl implements TraineeService {
     @Override
     public ApiResponse<List<TrainerDTO>> getNotAssignedActiveTrainers(String username) {
         LOGGER.info("Request to get available trainers for {} with username: {}", ENTITY_NAME, username);
-        List<Trainer> availableTrainersForTrainee = traineeDao.findAvailableTrainersForTrainee(username);
+        Set<Long> assignedTrainerIds = traineeDao.findAssignedTrainerIds(username);
 
-        List<TrainerDTO> dtos = availableTrainersForTrainee
+        List<TrainerDTO> dtos = activeTrainerSnapshot.excluding(assignedTrainerIds)
                 .stream()
                 .map(trainer -> {
                     TrainerDTO trainerDTO = new TrainerDTO();
-                    trainerDTO.setId(trainer.getId());
-                    trainerDTO.setActive(trainer.getUser().getActive());
-                    trainerDTO.setUsername(trainer.getUser().getUsername());
-                    trainerDTO.setFirstName(trainer.getUser().getFirstName());
-                    trainerDTO.setLastName(trainer.getUser().getLastName());
-                    trainerDTO.setTrainingTypeId(trainer.getSpecialization().getId());
+                    trainerDTO.setId(trainer.id());
+                    trainerDTO.setActive(true);
+                    trainerDTO.setUsername(trainer.username());
+                    trainerDTO.setFirstName(trainer.firstName());
+                    trainerDTO.setLastName(trainer.lastName());
+                    trainerDTO.setTrainingTypeId(trainer.trainingTypeId());
 
                     return trainerDTO;
                 })
@@ -199,11 +201,11 @@ public class TraineeServiceImpl implements TraineeService {
         return new ApiResponse<>(true, null, null);
     }
 
-    public List<Training> getTraineeTrainings(String username, LocalDateTime fromDate, LocalDateTime toDate,
-                                              String trainerName, String trainingType) {
+    public List<TraineeFilterResponseDTO> getTraineeTrainings(String username, LocalDateTime fromDate, LocalDateTime toDate,
+                                                              String trainerName, String trainingType) {
         LOGGER.info("Request to get trainings for {} with username: {}", ENTITY_NAME, username);
 
-        return traineeDao.findTraineeTrainings(username, domainUtils.getCurrentUser().getUsername(), fromDate, toDate, trainerName, trainingType);
+        return traineeDao.findTraineeTrainings(username, domainUtils.getCurrentUser().getUsername(), fromDate, toDate, trainerName, trainingType, null);
     }
 
     public void updateTraineeTrainers(String traineeUsername, List<String> trainerUsernames) {
@@ -219,27 +221,10 @@ public class TraineeServiceImpl implements TraineeService {
     }
 
     private synchronized String generateUsername(String firstName, String lastName) {
-        String baseUsername = (firstName + "_" + lastName).toLowerCase();
-        String username = baseUsername;
-        int suffix = 1;
-
-        while (userDao.existsByUsername(username)) {
-            username = baseUsername + suffix++;
-        }
+        String username = CredentialsGenerator.nextFreeUsername(
+                CredentialsGenerator.baseUsername(firstName, lastName), userDao::existsByUsername);
 
         LOGGER.info("Generated username: {}", username);
         return username;
     }
-
-    private String generatePassword() {
-        String chars = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-        Random random = new Random();
-        StringBuilder sb = new StringBuilder(10);
-        for (int i = 0; i < 10; i++) {
-            sb.append(chars.charAt(random.nextInt(chars.length())));
-        }
-
-        LOGGER.info("Generated password: {}", sb);
-        return sb.toString();
-    }
 }
\ No newline at end of file
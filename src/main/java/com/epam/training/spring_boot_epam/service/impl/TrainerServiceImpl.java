@@ -7,6 +7,7 @@ import com.epam.training.spring_boot_epam.dto.request.ActivateDeactiveRequest;
 import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
 import com.epam.training.spring_boot_epam.dto.request.TrainerCreateDTO;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO;
 import com.epam.training.spring_boot_epam.exception.DomainException;
 import com.epam.training.spring_boot_epam.exception.ForbiddenException;
 import com.epam.training.spring_boot_epam.mapper.TraineeMapper;
@@ -16,6 +17,7 @@ import com.epam.training.spring_boot_epam.repository.TrainerDao;
 import com.epam.training.spring_boot_epam.repository.UserDao;
 import com.epam.training.spring_boot_epam.service.TrainerService;
 import com.epam.training.spring_boot_epam.service.TrainingTypeService;
+import com.epam.training.spring_boot_epam.util.CredentialsGenerator;
 import com.epam.training.spring_boot_epam.util.DomainUtils;
 import com.epam.training.spring_boot_epam.util.OperationTypes;
 import com.epam.training.spring_boot_epam.util.StatusTypes;
@@ -28,7 +30,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 @Service("trainerService")
@@ -51,7 +52,7 @@ public class TrainerServiceImpl implements TrainerService {
         LOGGER.info("Request to create {} profile with data: {}",
                 ENTITY_NAME, dto);
 
-        String generatedPassword = generatePassword();
+        String generatedPassword = CredentialsGenerator.password();
 
         Trainer trainer = new Trainer(new User(dto.getFirstName(), dto.getLastName(), true), trainingTypeService.getTrainingType(dto.getTrainingTypeId()));
         trainer.getUser().setUsername(generateUsername(dto.getFirstName(), dto.getLastName()));
@@ -65,10 +66,10 @@ public class TrainerServiceImpl implements TrainerService {
     }
 
     @Override
-    public void checkAuthProfile(String headerUsername, String password, String username) {
+    public void checkAuthProfile(String headerUsername, String username) {
         Trainer trainer = getByUsername(username);
 
-        if(trainer.getUser().getUsername().equals(headerUsername) && trainer.getUser().getPassword().equals(password)) {
+        if(trainer.getUser().getUsername().equals(headerUsername)) {
             return;
         }
 
@@ -76,10 +77,10 @@ public class TrainerServiceImpl implements TrainerService {
     }
 
     @Override
-    public void checkAuthProfile(String headerUsername, String password, Long id) {
+    public void checkAuthProfile(String headerUsername, Long id) {
         Trainer trainer = trainerDao.findById(id).orElseThrow(() -> new DomainException("Trainee not found: " + id));
 
-        if(trainer.getUser().getUsername().equals(headerUsername) && trainer.getUser().getPassword().equals(password)) {
+        if(trainer.getUser().getUsername().equals(headerUsername)) {
             return;
         }
 
@@ -90,7 +91,7 @@ public class TrainerServiceImpl implements TrainerService {
     public ApiResponse<TrainerDTO> getProfile(String username) {
         LOGGER.info("Request to get {} profile with username: {}", ENTITY_NAME, username);
 
-        Trainer trainer = trainerDao.findByUsername(username)
+        Trainer trainer = trainerDao.findProfileByUsername(username)
                 .orElseThrow(() -> new DomainException("Trainer not found: " + username));
 
         TrainerDTO dto = trainerMapper.toDto(trainer);
@@ -129,11 +130,11 @@ public class TrainerServiceImpl implements TrainerService {
         return new ApiResponse<>(true, null, responseDto);
     }
 
-    @Transactional
-    public List<Training> getTrainerTrainings(String username, LocalDateTime fromDate, LocalDateTime toDate, String traineeName) {
+    @Transactional(readOnly = true)
+    public List<TrainerFilterResponseDTO> getTrainerTrainings(String username, LocalDateTime fromDate, LocalDateTime toDate, String traineeName) {
         LOGGER.info("Request to get trainings for {} with username: {}", ENTITY_NAME, username);
         requireAuthentication(username);
-        return trainerDao.findTrainerTrainings(domainUtils.getCurrentUser().getUsername(), username, fromDate, toDate, traineeName);
+        return trainerDao.findTrainerTrainings(domainUtils.getCurrentUser().getUsername(), fromDate, toDate, traineeName, null);
     }
 
     @Override
@@ -173,27 +174,10 @@ public class TrainerServiceImpl implements TrainerService {
     }
 
     private synchronized String generateUsername(String firstName, String lastName) {
-        String baseUsername = (firstName + "_" + lastName).toLowerCase();
-        String username = baseUsername;
-        int suffix = 1;
-
-        while (userDao.existsByUsername(username)) {
-            username = baseUsername + suffix++;
-        }
+        String username = CredentialsGenerator.nextFreeUsername(
+                CredentialsGenerator.baseUsername(firstName, lastName), userDao::existsByUsername);
 
         LOGGER.info("Generated username: {}", username);
         return username;
     }
-
-    private String generatePassword() {
-        String chars = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-        Random random = new Random();
-        StringBuilder sb = new StringBuilder(10);
-        for (int i = 0; i < 10; i++) {
-            sb.append(chars.charAt(random.nextInt(chars.length())));
-        }
-
-        LOGGER.info("Generated password: {}", sb);
-        return sb.toString();
-    }
 }
\ No newline at end of file
@@ -7,7 +7,10 @@ import com.epam.training.spring_boot_epam.domain.User;
 import com.epam.training.spring_boot_epam.dto.TrainingDTO;
 import com.epam.training.spring_boot_epam.dto.filters.TraineeTrainingsFilter;
 import com.epam.training.spring_boot_epam.dto.filters.TrainerTrainingsFilter;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingCursor;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.dto.response.CursorPage;
 import com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO;
 import com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO;
 import com.epam.training.spring_boot_epam.exception.AuthorizationException;
@@ -21,19 +24,25 @@ import com.epam.training.spring_boot_epam.service.TraineeService;
 import com.epam.training.spring_boot_epam.service.TrainerService;
 import com.epam.training.spring_boot_epam.service.TrainingService;
 import com.epam.training.spring_boot_epam.util.DomainUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service("trainingService")
 @RequiredArgsConstructor
 public class TrainingServiceImpl implements TrainingService {
     private static final Logger LOGGER = LoggerFactory.getLogger(TrainingServiceImpl.class);
+    private static final int NDJSON_FLUSH_EVERY = 500;
 
     private final TrainingDao trainingDao;
     private final TraineeDao traineeDao;
@@ -43,11 +52,12 @@ public class TrainingServiceImpl implements TrainingService {
     private final TraineeService traineeService;
     private final TrainerService trainerService;
     private final DomainUtils domainUtils;
+    private final ObjectMapper objectMapper;
 
     public void checkAuthProfile(String username) {
         User user = getByUsername(username);
 
-        if(user.getUsername().equals(domainUtils.getCurrentUser().getUsername()) && domainUtils.getCurrentUser().getPassword().equals(user.getPassword())) {
+        if(user.getUsername().equals(domainUtils.getCurrentUser().getUsername())) {
             return;
         }
 
@@ -60,48 +70,55 @@ public class TrainingServiceImpl implements TrainingService {
     }
 
     @Override
-    public ApiResponse<List<TraineeFilterResponseDTO>> getTraineeTrainings(TraineeTrainingsFilter filter) {
+    public ApiResponse<CursorPage<TraineeFilterResponseDTO>> getTraineeTrainings(TraineeTrainingsFilter filter) {
         LOGGER.info("Request to get trainings for trainee with username: {}", filter);
 
-        List<Training> traineeTrainings = traineeDao.findTraineeTrainings(filter.getUsername(), domainUtils.getCurrentUser().getUsername(), filter.getFrom(), filter.getTo(), filter.getTrainerFirstname(), filter.getTrainingTypeName());
-
-        List<TraineeFilterResponseDTO> filterResponseDTOS = traineeTrainings
-                .stream()
-                .map(training -> {
-                    TraineeFilterResponseDTO responseDTO = new TraineeFilterResponseDTO();
-                    responseDTO.setId(training.getId());
-                    responseDTO.setTrainingName(training.getTrainingName());
-                    responseDTO.setTrainingDateTime(training.getTrainingDateTime());
-                    responseDTO.setTrainingDurationInHours(training.getTrainingDurationInMinutes());
-                    responseDTO.setTrainerFirstname(training.getTrainer().getUser().getFirstName());
-                    responseDTO.setTrainingType(training.getTrainingType().getTrainingTypeName());
-                    return responseDTO;
-                })
-                .collect(Collectors.toList());
-
-        return new ApiResponse<>(true, null, filterResponseDTOS);
+        TrainingPageRequest page = TrainingPageRequest.of(filter.getCursor(), filter.getSort(), filter.getLimit());
+        List<TraineeFilterResponseDTO> filterResponseDTOS = traineeDao.findTraineeTrainings(filter.getUsername(), domainUtils.getCurrentUser().getUsername(), filter.getFrom(), filter.getTo(), filter.getTrainerFirstname(), filter.getTrainingTypeName(), page);
+
+        return new ApiResponse<>(true, null, CursorPage.of(filterResponseDTOS, page.limit(),
+                row -> new TrainingCursor(row.getTrainingDateTime(), row.getId()).encode()));
     }
 
     @Override
-    public ApiResponse<List<TrainerFilterResponseDTO>> getTrainerTrainings(TrainerTrainingsFilter filter) {
+    public ApiResponse<CursorPage<TrainerFilterResponseDTO>> getTrainerTrainings(TrainerTrainingsFilter filter) {
         LOGGER.info("Request to get trainings for trainer with username: {}", filter);
-        List<Training> trainerTrainings = trainerDao.findTrainerTrainings(domainUtils.getCurrentUser().getUsername(), filter.getUsername(), filter.getFrom(), filter.getTo(), filter.getTraineeFirstname());
-
-        List<TrainerFilterResponseDTO> filterResponseDTOS = trainerTrainings
-                .stream()
-                .map(training -> {
-                    TrainerFilterResponseDTO responseDTO = new TrainerFilterResponseDTO();
-                    responseDTO.setId(training.getId());
-                    responseDTO.setTrainingName(training.getTrainingName());
-                    responseDTO.setTrainingDateTime(training.getTrainingDateTime());
-                    responseDTO.setTrainingDurationInHours(training.getTrainingDurationInMinutes());
-                    responseDTO.setTraineeFirstname(training.getTrainee().getUser().getFirstName());
-                    responseDTO.setTrainingType(training.getTrainingType() != null ? training.getTrainingType().getTrainingTypeName() : "");
-                    return responseDTO;
-                })
-                .collect(Collectors.toList());
-
-        return new ApiResponse<>(true, null, filterResponseDTOS);
+        TrainingPageRequest page = TrainingPageRequest.of(filter.getCursor(), filter.getSort(), filter.getLimit());
+        List<TrainerFilterResponseDTO> filterResponseDTOS = trainerDao.findTrainerTrainings(domainUtils.getCurrentUser().getUsername(), filter.getFrom(), filter.getTo(), filter.getTraineeFirstname(), page);
+
+        return new ApiResponse<>(true, null, CursorPage.of(filterResponseDTOS, page.limit(),
+                row -> new TrainingCursor(row.getTrainingDateTime(), row.getId()).encode()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTraineeTrainings(TraineeTrainingsFilter filter, OutputStream out) throws IOException {
+        LOGGER.info("Request to stream trainings for trainee with username: {}", filter.getUsername());
+        try (Stream<TraineeFilterResponseDTO> rows = traineeDao.streamTraineeTrainings(filter.getUsername(), filter.getFrom(), filter.getTo(), filter.getTrainerFirstname(), filter.getTrainingTypeName())) {
+            writeNdjson(rows, objectMapper.writerFor(TraineeFilterResponseDTO.class), out);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamTrainerTrainings(TrainerTrainingsFilter filter, String trainerUsername, OutputStream out) throws IOException {
+        LOGGER.info("Request to stream trainings for trainer with username: {}", trainerUsername);
+        try (Stream<TrainerFilterResponseDTO> rows = trainerDao.streamTrainerTrainings(trainerUsername, filter.getFrom(), filter.getTo(), filter.getTraineeFirstname())) {
+            writeNdjson(rows, objectMapper.writerFor(TrainerFilterResponseDTO.class), out);
+        }
+    }
+
+    private static <T> void writeNdjson(Stream<T> rows, ObjectWriter writer, OutputStream out) throws IOException {
+        Iterator<T> iterator = rows.iterator();
+        int written = 0;
+        while (iterator.hasNext()) {
+            out.write(writer.writeValueAsBytes(iterator.next()));
+            out.write('\n');
+            if (++written % NDJSON_FLUSH_EVERY == 0) {
+                out.flush();
+            }
+        }
+        out.flush();
     }
 
     @Transactional
@@ -121,25 +138,14 @@ public class TrainingServiceImpl implements TrainingService {
         training.setTrainee(trainee);
         training.setTrainingType(trainer.getSpecialization());
 
+        // trainings.trainee_id / trainer_id are the association; the collections on both sides are mapped by them
         training = trainingDao.save(training);
 
-        if (!trainee.getTrainings().contains(training)) {
-            if(!trainee.getTrainers().contains(trainer)){
-                trainee.getTrainers().add(trainer);
-            }
-            trainee.getTrainings().add(training);
+        if (!trainee.getTrainers().contains(trainer)) {
+            trainee.getTrainers().add(trainer);
             traineeDao.update(trainee);
         }
 
-        if (!trainer.getTrainings().contains(training)) {
-            if (!trainer.getTrainees().contains(trainee)) {
-                trainer.getTrainees().add(trainee);
-            }
-            trainer.getTrainings().add(training);
-            trainerDao.update(trainer);
-        }
-
-
         LOGGER.info("Training added successfully: {}", training.getId());
 
         return new ApiResponse<>(true, "Successfully created", null);
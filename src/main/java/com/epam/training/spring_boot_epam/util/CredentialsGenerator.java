@@ -0,0 +1,50 @@
+package com.epam.training.spring_boot_epam.util;
+
+import java.security.SecureRandom;
+import java.util.Set;
+import java.util.function.Predicate;
+
+public final class CredentialsGenerator {
+
+    private static final String PASSWORD_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final int PASSWORD_LENGTH = 10;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private CredentialsGenerator() {
+    }
+
+    /** Lower-cased {@code first_last}, the username every profile starts from before a numeric suffix is added. */
+    public static String baseUsername(String firstName, String lastName) {
+        return (firstName + "_" + lastName).toLowerCase();
+    }
+
+    /**
+     * First of {@code base}, {@code base1}, {@code base2}, ... for which {@code taken} is false.
+     */
+    public static String nextFreeUsername(String base, Predicate<String> taken) {
+        String username = base;
+        int suffix = 1;
+        while (taken.test(username)) {
+            username = base + suffix++;
+        }
+        return username;
+    }
+
+    /**
+     * Same as {@link #nextFreeUsername(String, Predicate)} against an in-memory set, which is
+     * updated with the returned name so the next call in the same batch skips it.
+     */
+    public static String claimNextFreeUsername(String base, Set<String> taken) {
+        String username = nextFreeUsername(base, taken::contains);
+        taken.add(username);
+        return username;
+    }
+
+    public static String password() {
+        StringBuilder sb = new StringBuilder(PASSWORD_LENGTH);
+        for (int i = 0; i < PASSWORD_LENGTH; i++) {
+            sb.append(PASSWORD_CHARS.charAt(RANDOM.nextInt(PASSWORD_CHARS.length())));
+        }
+        return sb.toString();
+    }
+}
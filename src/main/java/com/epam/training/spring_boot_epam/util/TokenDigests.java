@@ -0,0 +1,25 @@
+package com.epam.training.spring_boot_epam.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class TokenDigests {
+
+    private TokenDigests() {
+    }
+
+    /**
+     * Hex encoded SHA-256 of the token. Tokens are stored and looked up by this fixed 64 char
+     * value, the raw token never reaches the database.
+     */
+    public static String sha256Hex(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+-- Schema as mapped by the entities at the switch from hbm2ddl to versioned migrations.
+-- Sequence increments match the allocationSize of the pooled-lo generators.
+
+CREATE SEQUENCE app_users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE training_types_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE trainings_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE jwt_tokens_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE refresh_tokens_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE app_users
+(
+    id         BIGINT        NOT NULL,
+    first_name VARCHAR(16)   NOT NULL,
+    last_name  VARCHAR(16)   NOT NULL,
+    username   VARCHAR(255)  NOT NULL,
+    password   VARCHAR(1000) NOT NULL,
+    role       VARCHAR(255)  NOT NULL,
+    active     BOOLEAN       NOT NULL,
+    CONSTRAINT pk_app_users PRIMARY KEY (id),
+    CONSTRAINT uk_app_users_username UNIQUE (username)
+);
+
+CREATE TABLE training_types
+(
+    id                 BIGINT NOT NULL,
+    training_type_name VARCHAR(255),
+    CONSTRAINT pk_training_types PRIMARY KEY (id)
+);
+
+CREATE TABLE trainees
+(
+    user_id    BIGINT NOT NULL,
+    birth_date DATE,
+    address    VARCHAR(255),
+    CONSTRAINT pk_trainees PRIMARY KEY (user_id),
+    CONSTRAINT fk_trainees_user FOREIGN KEY (user_id) REFERENCES app_users (id)
+);
+
+CREATE TABLE trainers
+(
+    user_id           BIGINT NOT NULL,
+    specialization_id BIGINT,
+    CONSTRAINT pk_trainers PRIMARY KEY (user_id),
+    CONSTRAINT fk_trainers_user FOREIGN KEY (user_id) REFERENCES app_users (id),
+    CONSTRAINT fk_trainers_specialization FOREIGN KEY (specialization_id) REFERENCES training_types (id)
+);
+
+CREATE TABLE trainees_trainers
+(
+    trainee_id BIGINT NOT NULL,
+    trainer_id BIGINT NOT NULL,
+    CONSTRAINT uk_trainees_trainers UNIQUE (trainee_id, trainer_id),
+    CONSTRAINT fk_trainees_trainers_trainee FOREIGN KEY (trainee_id) REFERENCES trainees (user_id),
+    CONSTRAINT fk_trainees_trainers_trainer FOREIGN KEY (trainer_id) REFERENCES trainers (user_id)
+);
+
+CREATE INDEX idx_trainees_trainers_trainer_id ON trainees_trainers (trainer_id);
+
+CREATE TABLE trainings
+(
+    id                           BIGINT       NOT NULL,
+    trainer_id                   BIGINT       NOT NULL,
+    trainee_id                   BIGINT       NOT NULL,
+    training_name                VARCHAR(255) NOT NULL,
+    training_type_id             BIGINT,
+    training_date_time           TIMESTAMP(6) NOT NULL,
+    training_duration_in_minutes INTEGER      NOT NULL,
+    status                       VARCHAR(255),
+    CONSTRAINT pk_trainings PRIMARY KEY (id),
+    CONSTRAINT ck_trainings_status CHECK (status IN ('ACTIVE', 'DELETED')),
+    CONSTRAINT fk_trainings_trainer FOREIGN KEY (trainer_id) REFERENCES trainers (user_id),
+    CONSTRAINT fk_trainings_trainee FOREIGN KEY (trainee_id) REFERENCES trainees (user_id),
+    CONSTRAINT fk_trainings_training_type FOREIGN KEY (training_type_id) REFERENCES training_types (id)
+);
+
+CREATE TABLE jwt_tokens
+(
+    id         BIGINT                      NOT NULL,
+    token_hash VARCHAR(64)                 NOT NULL,
+    username   VARCHAR(100)                NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    expired    BOOLEAN                     NOT NULL,
+    CONSTRAINT pk_jwt_tokens PRIMARY KEY (id),
+    CONSTRAINT uk_jwt_tokens_token_hash UNIQUE (token_hash),
+    CONSTRAINT uk_jwt_tokens_username UNIQUE (username)
+);
+
+CREATE INDEX idx_jwt_tokens_expires_at ON jwt_tokens (expires_at);
+
+CREATE TABLE refresh_tokens
+(
+    id         BIGINT                      NOT NULL,
+    token_hash VARCHAR(64)                 NOT NULL,
+    username   VARCHAR(100)                NOT NULL,
+    family_id  VARCHAR(36)                 NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    used       BOOLEAN                     NOT NULL,
+    revoked    BOOLEAN                     NOT NULL,
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
+
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX idx_refresh_tokens_username ON refresh_tokens (username);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
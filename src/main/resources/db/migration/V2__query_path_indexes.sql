@@ -0,0 +1,24 @@
+-- Indexes for the DAO query paths; QueryPlanTests fails when one of them is missing.
+
+-- Trainee history search (findTraineeTrainings) and the trainee delete pipeline: the trainee's
+-- trainings in keyset order. The INCLUDE columns are everything the search projects or filters
+-- on, so the history is read from the index alone.
+CREATE INDEX idx_trainings_trainee_date
+    ON trainings (trainee_id, training_date_time, id)
+    INCLUDE (trainer_id, training_type_id, training_duration_in_minutes, training_name);
+
+-- Trainer history search (findTrainerTrainings) and a trainer's trainees (findAllTrainerTrainees).
+CREATE INDEX idx_trainings_trainer_date
+    ON trainings (trainer_id, training_date_time, id)
+    INCLUDE (trainee_id, training_type_id, training_duration_in_minutes, training_name);
+
+-- Batches for the deactivated trainee purge (findDeactivatedIds); only inactive rows are indexed.
+CREATE INDEX idx_app_users_inactive_id ON app_users (id) WHERE active = false;
+
+-- Username prefix lookup used to pick free usernames (findUsernamesStartingWith). The unique
+-- index follows the database collation and cannot serve LIKE 'prefix%' unless that is C.
+CREATE INDEX idx_app_users_username_pattern ON app_users (username text_pattern_ops);
+
+-- The OR arms of the token purges; expiry is already indexed, these cover the flagged rows.
+CREATE INDEX idx_jwt_tokens_expired ON jwt_tokens (id) WHERE expired = true;
+CREATE INDEX idx_refresh_tokens_revoked ON refresh_tokens (id) WHERE revoked = true;
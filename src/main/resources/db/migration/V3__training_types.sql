@@ -0,0 +1,15 @@
+-- Reference data previously loaded by import/initial.sql. Safe on databases that already have it.
+
+INSERT INTO training_types (id, training_type_name)
+VALUES (1, 'Java Basics'),
+       (2, 'Spring Boot Advanced'),
+       (3, 'Data Structures'),
+       (4, 'Machine Learning'),
+       (5, 'DevOps Fundamentals'),
+       (6, 'Frontend Development'),
+       (7, 'Database Design'),
+       (8, 'Cybersecurity Basics'),
+       (9, 'Microservices Architecture')
+ON CONFLICT (id) DO NOTHING;
+
+SELECT setval('training_types_seq', GREATEST((SELECT MAX(id) + 1 FROM training_types), nextval('training_types_seq')), false);
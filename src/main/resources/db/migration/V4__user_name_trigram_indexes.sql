@@ -0,0 +1,9 @@
+-- Substring name filters of the training history searches (findTraineeTrainings on the trainer
+-- first name, findTrainerTrainings on the trainee username). A LIKE '%fragment%' cannot use a
+-- B-tree index; trigram GIN indexes over the lowered columns can, and unlike an in-memory index
+-- they see every committed user. pg_trgm is a trusted extension, so the migration user only
+-- needs CREATE on the database.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_app_users_first_name_trgm ON app_users USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX idx_app_users_username_trgm ON app_users USING gin (lower(username) gin_trgm_ops);
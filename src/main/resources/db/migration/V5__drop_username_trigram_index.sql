@@ -0,0 +1,4 @@
+-- findTrainerTrainings now filters trainees by first name, like findTraineeTrainings does for
+-- trainers, so idx_app_users_first_name_trgm serves both searches and the username trigram index
+-- only costs writes.
+DROP INDEX IF EXISTS idx_app_users_username_trgm;
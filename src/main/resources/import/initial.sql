@@ -1,43 +0,0 @@
-INSERT INTO training_types (training_type_name) VALUES ('Java Basics');
-INSERT INTO training_types (training_type_name) VALUES ('Spring Boot Advanced');
-INSERT INTO training_types (training_type_name) VALUES ('Data Structures');
-INSERT INTO training_types (training_type_name) VALUES ('Machine Learning');
-INSERT INTO training_types (training_type_name) VALUES ('DevOps Fundamentals');
-INSERT INTO training_types (training_type_name) VALUES ('Frontend Development');
-INSERT INTO training_types (training_type_name) VALUES ('Database Design');
-INSERT INTO training_types (training_type_name) VALUES ('Cybersecurity Basics');
-INSERT INTO training_types (training_type_name) VALUES ('Microservices Architecture');
---
--- INSERT INTO app_users (first_name, last_name, active, username, password, role) VALUES ('Anvar', 'Ibragimov', true, 'anvar_ibragimov', 'password123', 'ROLE_TRAINEE');
--- INSERT INTO app_users (first_name, last_name, active, username, password, role) VALUES ('Elena', 'Petrova', false, 'elena_petrova', 'password123','ROLE_TRAINEE');
--- INSERT INTO app_users (first_name, last_name, active, username, password, role) VALUES ('Dmitry', 'Ivanov', true, 'dmitry_ivanov', 'password123','ROLE_TRAINEE');
--- INSERT INTO app_users (first_name, last_name, active, username, password, role) VALUES ('Bakhriddin', 'Nazarov', true, 'bakhriddin_nazarov1', 'password123', 'ROLE_TRAINEE');
--- INSERT INTO app_users (first_name, last_name, active, username, password, role) VALUES ('Bakhriddin', 'Nazarov', false, 'bakhriddin_nazarov2', 'password123', 'ROLE_TRAINEE');
--- INSERT INTO app_users (first_name, last_name, active, username, password, role) VALUES ('Olga', 'Skatelska', true, 'olga_skatelska', 'password123', 'ROLE_TRAINER');
--- INSERT INTO app_users (first_name, last_name, active, username, password, role) VALUES ('Aleksandra', 'Ivanova', false, 'aleksandra_ivanova1', 'password123', 'ROLE_TRAINER');
--- INSERT INTO app_users (first_name, last_name, active, username, password, role) VALUES ('Aleksandra', 'Ivanova', true, 'aleksandra_ivanova2', 'password123', 'ROLE_TRAINER');
--- INSERT INTO app_users (first_name, last_name, active, username, password, role) VALUES ('Leyla', 'Bakhriddinova', true, 'leyla_bakhriddinova', 'password123', 'ROLE_TRAINER');
--- INSERT INTO app_users (first_name, last_name, active, username, password, role) VALUES ('Aygul', 'Ulgizi', false, 'aygul_ulgizi', 'password123', 'ROLE_TRAINER');
---
--- INSERT INTO trainees (user_id, birth_date, address) VALUES (1, '1995-06-15', '123 Some Street Tashkent');
--- INSERT INTO trainees (user_id, birth_date, address) VALUES (2, '2000-02-20', '45 Some Avenue Samarkand');
--- INSERT INTO trainees (user_id, birth_date, address) VALUES (3, '1987-11-05', '78 Some Street Bukhara');
--- INSERT INTO trainees (user_id, birth_date, address) VALUES (4, '2003-08-10', '34 Some Road Namangan');
--- INSERT INTO trainees (user_id, birth_date, address) VALUES (5, '1993-12-25', '90 Some Lane Andijan');
---
--- INSERT INTO trainers (user_id, specialization_id) VALUES (6, 1);
--- INSERT INTO trainers (user_id, specialization_id) VALUES (7, 2);
--- INSERT INTO trainers (user_id, specialization_id) VALUES (8, 3);
--- INSERT INTO trainers (user_id, specialization_id) VALUES (9, 4);
--- INSERT INTO trainers (user_id, specialization_id) VALUES (10, 5);
---
--- INSERT INTO trainings (trainer_id, trainee_id, training_name, training_type_id, training_date_time, training_duration_in_hours) VALUES (6, 1, 'Java Basics', 1, '2024-02-22T10:00:00', 20);
--- INSERT INTO trainings (trainer_id, trainee_id, training_name, training_type_id, training_date_time, training_duration_in_hours) VALUES (7, 2, 'Spring Boot Advanced', 2, '2024-02-23T14:30:00', 31);
--- INSERT INTO trainings (trainer_id, trainee_id, training_name, training_type_id, training_date_time, training_duration_in_hours) VALUES (8, 3, 'Data Structures', 1, '2024-02-24T09:00:00', 12);
--- INSERT INTO trainings (trainer_id, trainee_id, training_name, training_type_id, training_date_time, training_duration_in_hours) VALUES (9, 4, 'Machine Learning', 2, '2024-02-25T16:45:00', 42);
--- INSERT INTO trainings (trainer_id, trainee_id, training_name, training_type_id, training_date_time, training_duration_in_hours) VALUES (10, 5, 'DevOps Fundamentals', 3, '2024-02-26T11:15:00', 23);
--- INSERT INTO trainings (trainer_id, trainee_id, training_name, training_type_id, training_date_time, training_duration_in_hours) VALUES (6, 1, 'Frontend Development', 4, '2024-02-27T13:00:00', 34);
--- INSERT INTO trainings (trainer_id, trainee_id, training_name, training_type_id, training_date_time, training_duration_in_hours) VALUES (7, 2, 'Database Design', 5, '2024-02-28T15:30:00', 23);
--- INSERT INTO trainings (trainer_id, trainee_id, training_name, training_type_id, training_date_time, training_duration_in_hours) VALUES (8, 3, 'Cybersecurity Basics', 1, '2024-02-29T18:00:00', 32);
--- INSERT INTO trainings (trainer_id, trainee_id, training_name, training_type_id, training_date_time, training_duration_in_hours) VALUES (9, 4, 'Microservices Architecture', 2, '2024-03-01T08:30:00', 44);
--- INSERT INTO trainings (trainer_id, trainee_id, training_name, training_type_id, training_date_time, training_duration_in_hours) VALUES (10, 5, 'Cloud Computing', 3, '2024-03-02T12:45:00', 25);
@@ -113,4 +113,43 @@ class AuthControllerTests {
 
         Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), mvcResult.getResponse().getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(4)
+    @DisplayName("/refresh (POST) -> SUCCESS, reused refresh token -> FAILED")
+    void refreshEndpoint_ShouldRotateAndRejectReuse() throws Exception {
+        ApiResponse<AuthDTO> profile = traineeService.createProfile(new TraineeCreateDTO("Refresh", "User", "123", LocalDate.now()));
+
+        MvcResult login = mockMvc.perform(MockMvcRequestBuilders
+                        .post(baseAuthUrl + "/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"username\": \"%s\", \"password\": \"%s\"}",
+                                profile.getData().getUsername(), profile.getData().getPassword())))
+                .andExpect(status().isOk())
+                .andReturn();
+        String refreshToken = objectMapper.readTree(login.getResponse().getContentAsString())
+                .get("data").get("refreshToken").asText();
+
+        MvcResult refreshed = mockMvc.perform(MockMvcRequestBuilders
+                        .post(baseAuthUrl + "/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"refreshToken\": \"%s\"}", refreshToken)))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode data = objectMapper.readTree(refreshed.getResponse().getContentAsString()).get("data");
+        Assertions.assertNotNull(data.get("token").asText());
+        Assertions.assertNotEquals(refreshToken, data.get("refreshToken").asText());
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(baseAuthUrl + "/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"refreshToken\": \"%s\"}", refreshToken)))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(baseAuthUrl + "/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"refreshToken\": \"%s\"}", data.get("refreshToken").asText())))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,71 @@
+package com.epam.training.spring_boot_epam.controller;
+
+import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
+import com.epam.training.spring_boot_epam.dto.request.TrainerCreateDTO;
+import com.epam.training.spring_boot_epam.service.TrainerService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Integration tests for ImportController API endpoints")
+@Tag("Imports")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ImportControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TrainerService trainerService;
+
+    private final String baseImportUrl = "/v1/imports";
+    private String token;
+
+    @BeforeAll
+    void init() throws Exception {
+        AuthDTO profile = trainerService.createProfile(new TrainerCreateDTO("Import", "User", 2L)).getData();
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders
+                        .post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.format("{\"username\": \"%s\", \"password\": \"%s\"}",
+                                profile.getUsername(), profile.getPassword())))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+
+        JsonNode jsonNode = objectMapper.readTree(result.getResponse().getContentAsString());
+        token = jsonNode.get("data").get("token").asText();
+    }
+
+    @Test
+    void submit_WhenNotAdmin_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders
+                        .post(baseImportUrl + "/trainees")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"firstName\": \"Bulk\", \"lastName\": \"Trainee\"}\n"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void collectCredentials_WhenNotAdmin_ShouldReturnForbidden() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get(baseImportUrl + "/{id}/credentials", "00000000-0000-0000-0000-000000000000")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+}
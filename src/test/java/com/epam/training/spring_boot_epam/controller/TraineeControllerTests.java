@@ -17,6 +17,9 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.time.LocalDate;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -50,19 +53,7 @@ class TraineeControllerTests {
             this.username = profile.getData().getUsername();
         }
 
-        String baseAuthUrl = "/v1/auth";
-        MvcResult result = mockMvc.perform(MockMvcRequestBuilders
-                        .post(baseAuthUrl + "/login")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(
-                                String.format("{\"username\": \"%s\", \"password\": \"%s\"}", username, password)
-                        ))
-                .andExpect(status().is2xxSuccessful())
-                .andReturn();
-
-        String responseBody = result.getResponse().getContentAsString();
-        JsonNode jsonNode = objectMapper.readTree(responseBody);
-        token = jsonNode.get("data").get("token").asText();
+        token = login(username, password);
     }
 
 
@@ -85,6 +76,37 @@ class TraineeControllerTests {
 
     }
 
+    @Test
+    @Order(1)
+    void streamTraineeTrainings_WhenValid_ShouldReturnNdjson() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(MockMvcRequestBuilders
+                        .get(String.format(baseTraineeUrl + "/trainings/stream"))
+                        .header("Authorization", "Bearer " + token)
+                        .content(String.format("{\"username\": \"%s\"}", username))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+    }
+
+    @Test
+    @Order(1)
+    void streamTraineeTrainings_WhenAnotherTrainee_ShouldReturnForbidden() throws Exception {
+        String otherUsername = traineeService.createProfile(new TraineeCreateDTO("Other", "Trainee", "123", LocalDate.now()))
+                .getData().getUsername();
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get(String.format(baseTraineeUrl + "/trainings/stream"))
+                        .header("Authorization", "Bearer " + token)
+                        .content(String.format("{\"username\": \"%s\"}", otherUsername))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @Order(2)
     void createTrainee_WhenValid_ShouldReturnCreated() throws Exception {
@@ -141,7 +163,7 @@ class TraineeControllerTests {
                         .content("{\"firstName\": \"Anvar Updated\", " +
                                 "\"lastName\": \"Ibragimov 2\", " +
                                 "\"address\": \"Some address\", " +
-                                "\"active\": false, " +
+                                "\"active\": true, " +
                                 "\"birthDate\": \"2004-10-10\"}"))
                 .andExpect(status().isAccepted())
                 .andReturn();
@@ -158,10 +180,13 @@ class TraineeControllerTests {
     @Test
     @Order(99)
     void deleteTrainee_WhenAuthenticated_ShouldReturnNoContent() throws Exception {
+        AuthDTO profile = traineeService.createProfile(new TraineeCreateDTO("Deleted", "Trainee", "123", LocalDate.now())).getData();
+        String ownToken = login(profile.getUsername(), profile.getPassword());
+
         MvcResult result = mockMvc.perform(MockMvcRequestBuilders
                         .delete(String.format(baseTraineeUrl + "/delete"))
-                        .param("username", username)
-                        .header("Authorization", "Bearer " + token)
+                        .param("username", profile.getUsername())
+                        .header("Authorization", "Bearer " + ownToken)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent())
                 .andReturn();
@@ -177,12 +202,14 @@ class TraineeControllerTests {
     @Order(98)
     void activateOrDeactivate_WhenAuthenticated_ShouldReturnOk() throws Exception {
         boolean active = false;
+        AuthDTO profile = traineeService.createProfile(new TraineeCreateDTO("Deactivated", "Trainee", "123", LocalDate.now())).getData();
+        String ownToken = login(profile.getUsername(), profile.getPassword());
 
         MvcResult result = mockMvc.perform(MockMvcRequestBuilders
                         .patch(String.format(baseTraineeUrl))
-                        .header("Authorization", "Bearer " + token)
+                        .header("Authorization", "Bearer " + ownToken)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content(String.format("{\"username\": \"%s\", \"active\": %s}", username, active)))
+                        .content(String.format("{\"username\": \"%s\", \"active\": %s}", profile.getUsername(), active)))
                 .andExpect(status().isOk())
                 .andReturn();
 
@@ -211,4 +238,39 @@ class TraineeControllerTests {
 
         Assertions.assertTrue(resultSuccess);
     }
+
+    @Test
+    @Order(100)
+    void deleteTrainee_ShouldRejectTheDeletedTraineesToken() throws Exception {
+        AuthDTO profile = traineeService.createProfile(new TraineeCreateDTO("Revoked", "Trainee", "123", LocalDate.now())).getData();
+        String ownToken = login(profile.getUsername(), profile.getPassword());
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .delete(String.format(baseTraineeUrl + "/delete"))
+                        .param("username", profile.getUsername())
+                        .header("Authorization", "Bearer " + ownToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(MockMvcRequestBuilders
+                        .get(String.format(baseTraineeUrl + "/%s", profile.getUsername()))
+                        .header("Authorization", "Bearer " + ownToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String login(String username, String password) throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders
+                        .post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                String.format("{\"username\": \"%s\", \"password\": \"%s\"}", username, password)
+                        ))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+
+        String responseBody = result.getResponse().getContentAsString();
+        JsonNode jsonNode = objectMapper.readTree(responseBody);
+        return jsonNode.get("data").get("token").asText();
+    }
 }
@@ -1,10 +1,8 @@
 package com.epam.training.spring_boot_epam.controller;
 
-import com.epam.training.spring_boot_epam.domain.TrainingType;
 import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
 import com.epam.training.spring_boot_epam.dto.request.TrainerCreateDTO;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
-import com.epam.training.spring_boot_epam.repository.TrainingTypeDao;
 import com.epam.training.spring_boot_epam.service.TrainerService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,17 +10,11 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
-import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
-import javax.sql.DataSource;
-import java.sql.Connection;
-import java.util.List;
-
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -47,40 +39,15 @@ class TrainerControllerTests {
     private String username;
     private String password;
 
-    @Autowired
-    private TrainingTypeDao trainingTypeDao;
-
-    @Autowired
-    private DataSource dataSource;
-
     @BeforeAll
     void init() throws Exception {
-        List<TrainingType> trainingTypes = trainingTypeDao.findAll();
-        if (trainingTypes.isEmpty()) {
-            try (Connection connection = dataSource.getConnection()) {
-                ScriptUtils.executeSqlScript(connection, new ClassPathResource("import/initial.sql"));
-            }
-        }
-
         if (username == null || password == null || token == null) {
             ApiResponse<AuthDTO> profile = trainerService.createProfile(new TrainerCreateDTO("Test", "User", 2L));
             this.password = profile.getData().getPassword();
             this.username = profile.getData().getUsername();
         }
 
-        String baseAuthUrl = "/v1/auth";
-        MvcResult result = mockMvc.perform(MockMvcRequestBuilders
-                        .post(baseAuthUrl + "/login")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(
-                                String.format("{\"username\": \"%s\", \"password\": \"%s\"}", username, password)
-                        ))
-                .andExpect(status().is2xxSuccessful())
-                .andReturn();
-
-        String responseBody = result.getResponse().getContentAsString();
-        JsonNode jsonNode = objectMapper.readTree(responseBody);
-        token = jsonNode.get("data").get("token").asText();
+        token = login(username, password);
     }
 
     @Test
@@ -169,10 +136,14 @@ class TrainerControllerTests {
 
     @Test
     void deleteTrainer_WhenAuthenticated_ShouldReturnNoContent() throws Exception {
+        // deleting ends the trainer's sessions, so it runs on its own profile
+        AuthDTO profile = trainerService.createProfile(new TrainerCreateDTO("Deleted", "Trainer", 2L)).getData();
+        String ownToken = login(profile.getUsername(), profile.getPassword());
+
         MvcResult result = mockMvc.perform(MockMvcRequestBuilders
                         .delete(String.format(baseTrainerUrl + "/delete"))
-                        .param("username", username)
-                        .header("Authorization", "Bearer " + token)
+                        .param("username", profile.getUsername())
+                        .header("Authorization", "Bearer " + ownToken)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNoContent())
                 .andReturn();
@@ -187,12 +158,14 @@ class TrainerControllerTests {
     @Test
     void activateOrDeactivate_WhenAuthenticated_ShouldReturnOk() throws Exception {
         boolean active = false;
+        AuthDTO profile = trainerService.createProfile(new TrainerCreateDTO("Deactivated", "Trainer", 2L)).getData();
+        String ownToken = login(profile.getUsername(), profile.getPassword());
 
         MvcResult result = mockMvc.perform(MockMvcRequestBuilders
                         .patch(String.format(baseTrainerUrl))
-                        .header("Authorization", "Bearer " + token)
+                        .header("Authorization", "Bearer " + ownToken)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .content(String.format("{\"username\": \"%s\", \"active\": %s}", username, active)))
+                        .content(String.format("{\"username\": \"%s\", \"active\": %s}", profile.getUsername(), active)))
                 .andExpect(status().isOk())
                 .andReturn();
 
@@ -203,4 +176,19 @@ class TrainerControllerTests {
 
         Assertions.assertTrue(resultSuccess);
     }
-}
\ No newline at end of file
+
+    private String login(String username, String password) throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders
+                        .post("/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                                String.format("{\"username\": \"%s\", \"password\": \"%s\"}", username, password)
+                        ))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+
+        String responseBody = result.getResponse().getContentAsString();
+        JsonNode jsonNode = objectMapper.readTree(responseBody);
+        return jsonNode.get("data").get("token").asText();
+    }
+}
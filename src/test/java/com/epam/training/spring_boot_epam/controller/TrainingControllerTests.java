@@ -1,11 +1,9 @@
 package com.epam.training.spring_boot_epam.controller;
 
-import com.epam.training.spring_boot_epam.domain.TrainingType;
 import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
 import com.epam.training.spring_boot_epam.dto.request.TraineeCreateDTO;
 import com.epam.training.spring_boot_epam.dto.request.TrainerCreateDTO;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
-import com.epam.training.spring_boot_epam.repository.TrainingTypeDao;
 import com.epam.training.spring_boot_epam.service.TraineeService;
 import com.epam.training.spring_boot_epam.service.TrainerService;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -14,17 +12,12 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.http.MediaType;
-import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
-import javax.sql.DataSource;
-import java.sql.Connection;
 import java.time.LocalDate;
-import java.util.List;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -54,22 +47,6 @@ class TrainingControllerTests {
     private String trainerUsername;
     private String trainerPassword;
 
-    @Autowired
-    private TrainingTypeDao trainingTypeDao;
-
-    @Autowired
-    private DataSource dataSource;
-
-    @BeforeAll
-    void init() throws Exception {
-        List<TrainingType> trainingTypes = trainingTypeDao.findAll();
-        if (trainingTypes.isEmpty()) {
-            try (Connection connection = dataSource.getConnection()) {
-                ScriptUtils.executeSqlScript(connection, new ClassPathResource("import/initial.sql"));
-            }
-        }
-    }
-
     @BeforeEach
     void setUp() throws Exception {
         if (traineeUsername == null || traineePassword == null) {
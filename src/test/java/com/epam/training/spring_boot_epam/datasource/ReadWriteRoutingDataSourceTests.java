@@ -0,0 +1,142 @@
+package com.epam.training.spring_boot_epam.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Two embedded Postgres instances stand in for the primary and the replica; each holds a row
+ * naming itself, so a query shows which one a transaction was routed to.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadWriteRoutingDataSourceTests {
+
+    private static final String WHOAMI = "SELECT name FROM whoami";
+
+    private EmbeddedPostgres primaryDatabase;
+    private EmbeddedPostgres replicaDatabase;
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeAll
+    void startDatabases() throws IOException {
+        primaryDatabase = EmbeddedPostgres.start();
+        replicaDatabase = EmbeddedPostgres.start();
+        primary = primaryDatabase.getPostgresDatabase();
+        replica = replicaDatabase.getPostgresDatabase();
+        label(primary, "primary");
+        label(replica, "replica");
+    }
+
+    @AfterAll
+    void stopDatabases() throws IOException {
+        primaryDatabase.close();
+        replicaDatabase.close();
+    }
+
+    @Test
+    void readOnlyTransaction_WhenReplicaIsCaughtUp_ShouldUseReplica() {
+        ReplicaLagMonitor monitor = checkedMonitor(replica);
+        Routing routing = new Routing(primary, replica, monitor);
+
+        assertThat(routing.readOnly()).isEqualTo("replica");
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        Routing routing = new Routing(primary, replica, checkedMonitor(replica));
+
+        assertThat(routing.readWrite()).isEqualTo("primary");
+    }
+
+    @Test
+    void queryOutsideTransaction_ShouldUsePrimary() {
+        Routing routing = new Routing(primary, replica, checkedMonitor(replica));
+
+        assertThat(routing.jdbcTemplate.queryForObject(WHOAMI, String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_BeforeFirstLagCheck_ShouldUsePrimary() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        Routing routing = new Routing(primary, replica, monitor);
+
+        assertThat(monitor.isUsable()).isFalse();
+        assertThat(routing.readOnly()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransaction_WhenReplicaRefusesConnections_ShouldFallBackToPrimary() throws SQLException {
+        ReplicaLagMonitor monitor = checkedMonitor(replica);
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        Routing routing = new Routing(primary, unreachable, monitor);
+
+        assertThat(routing.readOnly()).isEqualTo("primary");
+        assertThat(monitor.isUsable()).isFalse();
+    }
+
+    @Test
+    void lagCheck_WhenReplicaIsUnreachable_ShouldStopRoutingToIt() throws SQLException {
+        DataSource unreachable = mock(DataSource.class);
+        when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(unreachable, Duration.ofSeconds(5), new SimpleMeterRegistry());
+
+        monitor.check();
+
+        assertThat(monitor.isUsable()).isFalse();
+    }
+
+    private static ReplicaLagMonitor checkedMonitor(DataSource replica) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(5), new SimpleMeterRegistry());
+        monitor.check();
+        return monitor;
+    }
+
+    private static void label(DataSource dataSource, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE whoami (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO whoami VALUES (?)", name);
+    }
+
+    /** The routing data source wired the way {@link DataSourceRoutingConfig} does it. */
+    private static final class Routing {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        Routing(DataSource primary, DataSource replica, ReplicaLagMonitor monitor) {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, monitor));
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.readWrite = new TransactionTemplate(transactionManager);
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+        }
+
+        String readOnly() {
+            return readOnly.execute(status -> jdbcTemplate.queryForObject(WHOAMI, String.class));
+        }
+
+        String readWrite() {
+            return readWrite.execute(status -> jdbcTemplate.queryForObject(WHOAMI, String.class));
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.epam.training.spring_boot_epam.repository;
+
+import com.epam.training.spring_boot_epam.dto.filters.TrainingCursor;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
+import com.epam.training.spring_boot_epam.repository.impl.TraineeDaoImpl;
+import com.epam.training.spring_boot_epam.repository.impl.TrainerDaoImpl;
+import com.epam.training.spring_boot_epam.repository.impl.UserDaoImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.AutoConfigureEmbeddedDatabase;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every per-request DAO query against the migrated schema and asks Postgres how it would
+ * execute the SQL Hibernate generated. Sequential scans and hash or merge joins are switched off,
+ * so a plan that still reads a whole table means no index serves that query path. Full reads by
+ * design (findAll, findAllActive) are not checked.
+ * <p>
+ * Plans are generic ({@code EXPLAIN (GENERIC_PLAN)}, Postgres 16), so they hold for any bound
+ * values, except for LIKE prefixes, which the planner can only turn into an index range once it
+ * sees the literal.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.epam.training.spring_boot_epam.repository.QueryPlanTests$CapturingStatementInspector")
+@AutoConfigureEmbeddedDatabase(provider = AutoConfigureEmbeddedDatabase.DatabaseProvider.ZONKY)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TraineeDaoImpl.class, TrainerDaoImpl.class, UserDaoImpl.class})
+class QueryPlanTests {
+
+    private static final Set<String> LARGE_TABLES = Set.of(
+            "app_users", "trainees", "trainers", "trainings", "trainees_trainers", "jwt_tokens", "refresh_tokens");
+    private static final Set<String> SCAN_NODES = Set.of("Seq Scan", "Index Scan", "Index Only Scan", "Bitmap Heap Scan");
+    private static final Pattern PARAMETER = Pattern.compile("\\?");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TraineeDaoImpl traineeDao;
+
+    @Autowired
+    private TrainerDaoImpl trainerDao;
+
+    @Autowired
+    private UserDaoImpl userDao;
+
+    @Autowired
+    private TokenDao tokenDao;
+
+    @Autowired
+    private RefreshTokenDao refreshTokenDao;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void traineeLookups_ShouldUseIndexes() {
+        assertIndexed(() -> traineeDao.findByUsername("plan.trainee"));
+        assertIndexed(() -> traineeDao.findProfileByUsername("plan.trainee"));
+        assertIndexed(() -> traineeDao.findById(1L));
+        assertIndexed(() -> traineeDao.existsByUsername("plan.trainee"));
+        assertIndexed(() -> traineeDao.findAllByUsernames(List.of("plan.trainee", "plan.other")));
+        assertIndexed(() -> traineeDao.findAllTraineeTrainers(1L));
+        assertIndexed(() -> traineeDao.findAssignedTrainerIds("plan.trainee"));
+    }
+
+    @Test
+    void traineeTrainings_ShouldUseIndexes() {
+        TrainingPageRequest firstPage = TrainingPageRequest.of(null, Sort.Direction.DESC, 20);
+        TrainingPageRequest nextPage = new TrainingPageRequest(
+                new TrainingCursor(LocalDateTime.of(2024, 1, 1, 10, 0), 100L), Sort.Direction.ASC, 20);
+
+        assertIndexed(() -> traineeDao.findTraineeTrainings("plan.trainee", null, null, null, null, null, firstPage));
+        assertIndexed(() -> traineeDao.findTraineeTrainings("plan.trainee", null,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 0, 0), "anna", "Yoga", nextPage));
+    }
+
+    @Test
+    void traineeDeletePipeline_ShouldUseIndexes() {
+        assertIndexed(() -> traineeDao.findDeactivatedIds(200));
+        assertIndexed(() -> traineeDao.deleteAllByIds(List.of(1L, 2L)));
+    }
+
+    @Test
+    void trainerLookups_ShouldUseIndexes() {
+        assertIndexed(() -> trainerDao.findByUsername("plan.trainer"));
+        assertIndexed(() -> trainerDao.findProfileByUsername("plan.trainer"));
+        assertIndexed(() -> trainerDao.findById(1L));
+        assertIndexed(() -> trainerDao.existsByUsername("plan.trainer"));
+        assertIndexed(() -> trainerDao.findAllByUsernames(List.of("plan.trainer", "plan.other")));
+        assertIndexed(() -> trainerDao.findAllTrainerTrainees(1L));
+    }
+
+    @Test
+    void trainerTrainings_ShouldUseIndexes() {
+        TrainingPageRequest firstPage = TrainingPageRequest.of(null, Sort.Direction.DESC, 20);
+        TrainingPageRequest nextPage = new TrainingPageRequest(
+                new TrainingCursor(LocalDateTime.of(2024, 1, 1, 10, 0), 100L), Sort.Direction.DESC, 20);
+
+        assertIndexed(() -> trainerDao.findTrainerTrainings("plan.trainer", null, null, null, firstPage));
+        assertIndexed(() -> trainerDao.findTrainerTrainings("plan.trainer",
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 0, 0), "kim", nextPage));
+    }
+
+    /**
+     * A per-user search is driven by that user's training index, so the name filter alone is
+     * planned against app_users: the predicate Hibernate generated, with the fragment inlined,
+     * has to come out as a bitmap scan of the trigram index over the same expression.
+     */
+    @Test
+    void trainingNameFilters_ShouldUseTrigramIndexes() {
+        TrainingPageRequest firstPage = TrainingPageRequest.of(null, Sort.Direction.DESC, 20);
+
+        assertTrigramIndexed(() -> traineeDao.findTraineeTrainings("plan.trainee", null, null, null, "anna", null, firstPage),
+                "first_name", "idx_app_users_first_name_trgm");
+        assertTrigramIndexed(() -> trainerDao.findTrainerTrainings("plan.trainer", null, null, "kim", firstPage),
+                "first_name", "idx_app_users_first_name_trgm");
+    }
+
+    @Test
+    void userLookups_ShouldUseIndexes() {
+        assertIndexed(() -> userDao.findByUsername("plan.user"));
+        assertIndexed(() -> userDao.findPrincipalByUsername("plan.user"));
+        assertIndexed(() -> userDao.existsByUsername("plan.user"));
+        assertIndexed(() -> userDao.updatePassword("plan.user", "secret"));
+        assertIndexed(() -> userDao.findUsernamesStartingWith(List.of("Plan.User", "Anna.Smith")),
+                "'Plan.User%'", "'Anna.Smith%'");
+    }
+
+    @Test
+    void tokenQueries_ShouldUseIndexes() {
+        Instant now = Instant.now();
+
+        assertIndexed(() -> tokenDao.findByTokenHashAndExpiredFalse("a".repeat(64)));
+        assertIndexed(() -> tokenDao.findByUsernameAndTokenHashAndExpiredFalse("plan.user", "a".repeat(64)));
+        assertIndexed(() -> tokenDao.upsert("plan.user", "a".repeat(64), now));
+        assertIndexed(() -> tokenDao.deleteExpiredBatch(now, 1000));
+
+        assertIndexed(() -> refreshTokenDao.findByTokenHash("b".repeat(64)));
+        assertIndexed(() -> refreshTokenDao.markUsed(1L));
+        assertIndexed(() -> refreshTokenDao.revokeFamily("family"));
+        assertIndexed(() -> refreshTokenDao.revokeAllByUsername("plan.user"));
+        assertIndexed(() -> refreshTokenDao.deleteExpiredBatch(now, 1000));
+    }
+
+    /**
+     * Runs {@code queryPath}, then explains every statement it sent. With {@code literals} the
+     * parameters are inlined in order instead of planning generically.
+     */
+    private void assertIndexed(Runnable queryPath, String... literals) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        queryPath.run();
+        entityManager.flush();
+        List<String> statements = List.copyOf(CapturingStatementInspector.STATEMENTS);
+        assertThat(statements).as("statements captured").isNotEmpty();
+
+        Set<String> partialIndexes = partialIndexes();
+        for (String sql : statements) {
+            JsonNode plan = explain(sql, literals);
+            List<String> fullScans = new ArrayList<>();
+            collectFullScans(plan, partialIndexes, fullScans);
+            assertThat(fullScans).as("full scans in the plan of%n%s%n%s", sql, plan.toPrettyString()).isEmpty();
+        }
+    }
+
+    private void assertTrigramIndexed(Runnable queryPath, String column, String index) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        queryPath.run();
+        Pattern nameFilter = Pattern.compile("lower\\((\\w+)\\." + column + "\\) like \\?");
+        Matcher filter = CapturingStatementInspector.STATEMENTS.stream()
+                .map(nameFilter::matcher)
+                .filter(Matcher::find)
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no LIKE filter on " + column + " in "
+                        + CapturingStatementInspector.STATEMENTS));
+        String probe = "SELECT 1 FROM app_users " + filter.group(1) + " WHERE " + filter.group();
+
+        JsonNode plan = explain(probe, "'%fragment%'");
+        List<String> bitmapIndexes = new ArrayList<>();
+        collectIndexes(plan, "Bitmap Index Scan", bitmapIndexes);
+        assertThat(bitmapIndexes).as("bitmap index scans in the plan of%n%s%n%s", probe, plan.toPrettyString())
+                .contains(index);
+    }
+
+    private JsonNode explain(String sql, String... literals) {
+        String explained = literals.length == 0
+                ? "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numberParameters(sql)
+                : "EXPLAIN (FORMAT JSON) " + inline(sql, literals);
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+                statement.execute("SET LOCAL enable_hashjoin = off");
+                statement.execute("SET LOCAL enable_mergejoin = off");
+                try (ResultSet resultSet = statement.executeQuery(explained)) {
+                    resultSet.next();
+                    return objectMapper.readTree(resultSet.getString(1)).get(0).get("Plan");
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Scans of the large tables that read them whole: any sequential scan, and index scans with
+     * neither an index condition nor a partial index limiting them to the rows asked for.
+     */
+    private static void collectFullScans(JsonNode node, Set<String> partialIndexes, List<String> fullScans) {
+        String nodeType = node.path("Node Type").asText();
+        String relation = node.path("Relation Name").asText();
+        if (SCAN_NODES.contains(nodeType) && LARGE_TABLES.contains(relation)) {
+            boolean bounded = switch (nodeType) {
+                case "Seq Scan" -> false;
+                case "Bitmap Heap Scan" -> true;
+                default -> node.has("Index Cond") || partialIndexes.contains(node.path("Index Name").asText());
+            };
+            if (!bounded) {
+                fullScans.add(nodeType + " on " + relation);
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectFullScans(child, partialIndexes, fullScans);
+        }
+    }
+
+    private static void collectIndexes(JsonNode node, String nodeType, List<String> indexes) {
+        if (nodeType.equals(node.path("Node Type").asText())) {
+            indexes.add(node.path("Index Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectIndexes(child, nodeType, indexes);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> partialIndexes() {
+        return new HashSet<>(entityManager.createNativeQuery(
+                        "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema() AND indexdef LIKE '% WHERE %'")
+                .getResultList());
+    }
+
+    private static String numberParameters(String sql) {
+        Matcher matcher = PARAMETER.matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int index = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(numbered, "\\$" + ++index);
+        }
+        return matcher.appendTail(numbered).toString();
+    }
+
+    private static String inline(String sql, String... literals) {
+        Matcher matcher = PARAMETER.matcher(sql);
+        StringBuilder inlined = new StringBuilder();
+        int index = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(inlined, Matcher.quoteReplacement(literals[index++]));
+        }
+        return matcher.appendTail(inlined).toString();
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (!sql.startsWith("select nextval")) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.epam.training.spring_boot_epam.repository;
+
+import com.epam.training.spring_boot_epam.domain.Token;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("dev")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TokenRepositoryTests {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TokenDao tokenDao;
+
+    @Test
+    void upsert_WhenUserLogsInAgain_ShouldReplaceTokenInPlace() {
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+        tokenDao.upsert("token.user", "a".repeat(64), expiresAt);
+        tokenDao.upsert("token.user", "b".repeat(64), expiresAt);
+        entityManager.clear();
+
+        assertThat(tokenDao.findByTokenHashAndExpiredFalse("a".repeat(64))).isEmpty();
+        Optional<Token> current = tokenDao.findByUsernameAndTokenHashAndExpiredFalse("token.user", "b".repeat(64));
+        assertThat(current).isPresent();
+        assertThat(tokenDao.count()).isEqualTo(1);
+    }
+
+    @Test
+    void deleteExpiredBatch_ShouldRemoveOnlyExpiredAndRevokedRows() {
+        Instant now = Instant.now();
+        tokenDao.upsert("active.user", "c".repeat(64), now.plus(1, ChronoUnit.HOURS));
+        tokenDao.upsert("expired.user", "d".repeat(64), now.minus(1, ChronoUnit.HOURS));
+        tokenDao.upsert("revoked.user", "e".repeat(64), now.plus(1, ChronoUnit.HOURS));
+        entityManager.clear();
+
+        Token revoked = tokenDao.findByTokenHashAndExpiredFalse("e".repeat(64)).orElseThrow();
+        revoked.setExpired(true);
+        tokenDao.saveAndFlush(revoked);
+
+        int deleted = tokenDao.deleteExpiredBatch(now, 1) + tokenDao.deleteExpiredBatch(now, 1);
+        entityManager.clear();
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(tokenDao.deleteExpiredBatch(now, 1)).isZero();
+        assertThat(tokenDao.findByTokenHashAndExpiredFalse("c".repeat(64))).isPresent();
+    }
+}
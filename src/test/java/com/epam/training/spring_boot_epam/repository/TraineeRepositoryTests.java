@@ -5,13 +5,20 @@ import com.epam.training.spring_boot_epam.domain.Trainer;
 import com.epam.training.spring_boot_epam.domain.Training;
 import com.epam.training.spring_boot_epam.domain.TrainingType;
 import com.epam.training.spring_boot_epam.domain.User;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingCursor;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
+import com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO;
 import com.epam.training.spring_boot_epam.repository.impl.TraineeDaoImpl;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -109,12 +116,20 @@ class TraineeRepositoryTests {
         Trainee trainee = createTrainee(createUser("trainee.user"));
         Trainer trainer1 = createTrainer(createUser("trainer1"));
         Trainer trainer2 = createTrainer(createUser("trainer2"));
+        TrainingType type1 = createTrainingType("Type1");
 
-        createTraining(trainee, trainer1, createTrainingType("Type1"));
+        // linked the way addTraining does it; two trainings with trainer1 must not duplicate it
+        trainee.getTrainers().add(trainer1);
+        trainee.getTrainers().add(trainer2);
+        createTraining(trainee, trainer1, type1);
+        createTraining(trainee, trainer1, type1);
         createTraining(trainee, trainer2, createTrainingType("Type2"));
+        Statistics statistics = clearAndResetStatistics();
 
         List<Trainer> trainers = traineeDao.findAllTraineeTrainers(trainee.getId());
-        assertThat(trainers).containsExactlyInAnyOrder(trainer1, trainer2);
+
+        assertThat(trainers).extracting(Trainer::getId).containsExactlyInAnyOrder(trainer1.getId(), trainer2.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
     }
 
     @Test
@@ -141,29 +156,71 @@ class TraineeRepositoryTests {
         createTraining(trainee, trainer, type1, date1);
         createTraining(trainee, trainer, type2, date2);
 
-        List<Training> result = traineeDao.findTraineeTrainings(
+        List<TraineeFilterResponseDTO> result = traineeDao.findTraineeTrainings(
                 "trainee.user",
                 "",
                 LocalDateTime.of(2023, 1, 15, 0, 0),
                 LocalDateTime.of(2023, 2, 15, 0, 0),
                 null,
+                null,
                 null
         );
 
         assertThat(result).hasSize(1);
-        assertThat(result.get(0))
-                .extracting(Training::getTrainingType)
-                .extracting(TrainingType::getTrainingTypeName).isEqualTo("Type2");
+        assertThat(result.get(0).getTrainingType()).isEqualTo("Type2");
+        assertThat(result.get(0).getTrainerFirstname()).isEqualTo("First");
     }
 
     @Test
-    void findAvailableTrainersForTrainee_ShouldExcludeExistingTrainers() {
+    void findTraineeTrainings_ShouldMatchTrainerFirstNameSubstringIgnoringCase() {
         Trainee trainee = createTrainee(createUser("trainee.user"));
-        Trainer trainer1 = createTrainer(createUser("trainer1"));
-        createTraining(trainee, trainer1, createTrainingType("Type1"));
+        TrainingType type = createTrainingType("Type1");
+        Trainer anna = createTrainer(createUser("trainer.anna"));
+        anna.getUser().setFirstName("Anna");
+        Trainer hana = createTrainer(createUser("trainer.hana"));
+        hana.getUser().setFirstName("Hana");
+        Trainer joanna = createTrainer(createUser("trainer.joanna"));
+        joanna.getUser().setFirstName("Joanna");
+        createTraining(trainee, anna, type);
+        createTraining(trainee, hana, type);
+        createTraining(trainee, joanna, type);
+        entityManager.flush();
 
-        List<Trainer> available = traineeDao.findAvailableTrainersForTrainee("trainee.user");
-        assertThat(available).doesNotContainNull();
+        List<TraineeFilterResponseDTO> result = traineeDao.findTraineeTrainings("trainee.user", "", null, null, "ANNA", null, null);
+
+        assertThat(result).extracting(TraineeFilterResponseDTO::getTrainerFirstname).containsExactlyInAnyOrder("Anna", "Joanna");
+    }
+
+    @Test
+    void findAssignedTrainerIds_ShouldReturnLinkedTrainerIds() {
+        Trainee trainee = createTraineeWithTrainers("trainee.user", 3);
+        createTrainer(createUser("trainer.unlinked"));
+        entityManager.flush();
+
+        assertThat(traineeDao.findAssignedTrainerIds("trainee.user"))
+                .containsExactlyInAnyOrderElementsOf(trainee.getTrainers().stream().map(Trainer::getId).toList());
+        assertThat(traineeDao.findAssignedTrainerIds("unknown")).isEmpty();
+    }
+
+    @Test
+    void linkTrainersOfTrainings_ShouldAddMissingLinksOnlyInSingleStatement() {
+        Trainee trainee = createTrainee(createUser("trainee.user"));
+        Trainer linked = createTrainer(createUser("trainer.linked"));
+        Trainer unlinked = createTrainer(createUser("trainer.unlinked"));
+        TrainingType type = createTrainingType("Type");
+        trainee.getTrainers().add(linked);
+        List<Long> trainingIds = List.of(
+                createTraining(trainee, linked, type).getId(),
+                createTraining(trainee, unlinked, type).getId(),
+                createTraining(trainee, unlinked, type).getId());
+        Statistics statistics = clearAndResetStatistics();
+
+        int inserted = traineeDao.linkTrainersOfTrainings(trainingIds);
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(traineeDao.findAssignedTrainerIds("trainee.user"))
+                .containsExactlyInAnyOrder(linked.getId(), unlinked.getId());
     }
 
     @Test
@@ -173,6 +230,157 @@ class TraineeRepositoryTests {
                 .hasMessageContaining("Trainee not found");
     }
 
+    @Test
+    void findTraineeTrainings_ShouldRunSingleStatementRegardlessOfResultSize() {
+        Trainee trainee = createTrainee(createUser("trainee.user"));
+        for (int i = 0; i < 5; i++) {
+            createTraining(trainee, createTrainer(createUser("trainer.user" + i)), createTrainingType("Type" + i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<TraineeFilterResponseDTO> result = traineeDao.findTraineeTrainings("trainee.user", "", null, null, null, null, null);
+
+        assertThat(result).hasSize(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findTraineeTrainings_WithKeysetPage_ShouldResumeAfterCursor() {
+        Trainee trainee = createTrainee(createUser("trainee.user"));
+        Trainer trainer = createTrainer(createUser("trainer.user"));
+        TrainingType type = createTrainingType("Type1");
+        LocalDateTime sameDay = LocalDateTime.of(2023, 3, 1, 10, 0);
+        createTraining(trainee, trainer, type, LocalDateTime.of(2023, 1, 1, 10, 0));
+        createTraining(trainee, trainer, type, sameDay);
+        createTraining(trainee, trainer, type, sameDay);
+
+        List<TraineeFilterResponseDTO> firstPage = traineeDao.findTraineeTrainings("trainee.user", "", null, null, null, null,
+                TrainingPageRequest.of(null, Sort.Direction.DESC, 2));
+
+        assertThat(firstPage).hasSize(3);
+        assertThat(firstPage.get(0).getTrainingDateTime()).isEqualTo(sameDay);
+        assertThat(firstPage.get(0).getId()).isGreaterThan(firstPage.get(1).getId());
+
+        TraineeFilterResponseDTO last = firstPage.get(1);
+        String cursor = new TrainingCursor(last.getTrainingDateTime(), last.getId()).encode();
+        List<TraineeFilterResponseDTO> secondPage = traineeDao.findTraineeTrainings("trainee.user", "", null, null, null, null,
+                TrainingPageRequest.of(cursor, Sort.Direction.DESC, 2));
+
+        assertThat(secondPage).hasSize(1);
+        assertThat(secondPage.get(0).getTrainingDateTime()).isEqualTo(LocalDateTime.of(2023, 1, 1, 10, 0));
+    }
+
+    @Test
+    void findTraineeTrainings_ShouldOnlyUseQueriesPrecompiledAtStartup() {
+        Trainee trainee = createTrainee(createUser("trainee.user"));
+        Trainer trainer = createTrainer(createUser("trainer.user"));
+        createTraining(trainee, trainer, createTrainingType("Type1"), LocalDateTime.of(2023, 1, 1, 10, 0));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        String cursor = new TrainingCursor(LocalDateTime.of(2024, 1, 1, 0, 0), Long.MAX_VALUE).encode();
+        List<TraineeFilterResponseDTO> result = traineeDao.findTraineeTrainings("trainee.user", "", LocalDateTime.of(2022, 1, 1, 0, 0),
+                null, "First", "Type1", TrainingPageRequest.of(cursor, Sort.Direction.DESC, 10));
+
+        assertThat(result).hasSize(1);
+        assertThat(statistics.getQueryPlanCacheMissCount()).isZero();
+        assertThat(statistics.getQueryPlanCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void findByUsername_ShouldLoadAuthCheckGraphInSingleStatement() {
+        Trainee trainee = createTraineeWithTrainers("trainee.user", 3);
+        Statistics statistics = clearAndResetStatistics();
+
+        Trainee found = traineeDao.findByUsername(trainee.getUser().getUsername()).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(Hibernate.isInitialized(found.getUser())).isTrue();
+        assertThat(Hibernate.isInitialized(found.getTrainers())).isFalse();
+        assertThat(Hibernate.isInitialized(found.getTrainings())).isFalse();
+    }
+
+    @Test
+    void findProfileByUsername_ShouldLoadTrainersInSingleStatement() {
+        Trainee trainee = createTraineeWithTrainers("trainee.user", 3);
+        Statistics statistics = clearAndResetStatistics();
+
+        Trainee found = traineeDao.findProfileByUsername(trainee.getUser().getUsername()).orElseThrow();
+        found.getTrainers().forEach(trainer -> trainer.getUser().getUsername());
+
+        assertThat(found.getTrainers()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(Hibernate.isInitialized(found.getTrainings())).isFalse();
+    }
+
+    @Test
+    void deleteByUsername_ShouldRunSameStatementCountRegardlessOfHistory() {
+        Trainee small = createTraineeWithTrainers("small.trainee", 1);
+        Trainee large = createTraineeWithTrainers("large.trainee", 25);
+
+        Statistics statistics = clearAndResetStatistics();
+        traineeDao.deleteByUsername("small.trainee");
+        long smallStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        traineeDao.deleteByUsername("large.trainee");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(smallStatements);
+        entityManager.clear();
+        assertThat(entityManager.find(Trainee.class, small.getId())).isNull();
+        assertThat(entityManager.find(Trainee.class, large.getId())).isNull();
+        assertThat(entityManager.find(User.class, large.getId())).isNull();
+    }
+
+    @Test
+    void deleteAllByIds_ShouldRemoveDeactivatedTraineesOnly() {
+        Trainee active = createTrainee(createUser("active.trainee"));
+        User deactivatedUser = createUser("deactivated.trainee");
+        deactivatedUser.setActive(false);
+        Trainee deactivated = createTrainee(deactivatedUser);
+        clearAndResetStatistics();
+
+        List<Long> ids = traineeDao.findDeactivatedIds(10);
+        int deleted = traineeDao.deleteAllByIds(ids);
+
+        assertThat(ids).contains(deactivated.getId()).doesNotContain(active.getId());
+        assertThat(deleted).isEqualTo(ids.size());
+        entityManager.clear();
+        assertThat(entityManager.find(Trainee.class, deactivated.getId())).isNull();
+        assertThat(entityManager.find(Trainee.class, active.getId())).isNotNull();
+    }
+
+    private Trainee createTraineeWithTrainers(String username, int trainers) {
+        Trainee trainee = createTrainee(createUser(username));
+        TrainingType type = createTrainingType("Type");
+        for (int i = 0; i < trainers; i++) {
+            Trainer trainer = createTrainer(createUser(username + ".trainer" + i));
+            trainer.setSpecialization(type);
+            trainee.getTrainers().add(trainer);
+            createTraining(trainee, trainer, type);
+        }
+        return trainee;
+    }
+
+    private Statistics clearAndResetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
     // Helper methods to create entities
     private User createUser(String username) {
         User user = new User();
@@ -208,11 +416,11 @@ class TraineeRepositoryTests {
         return type;
     }
 
-    private void createTraining(Trainee trainee, Trainer trainer, TrainingType type) {
-        createTraining(trainee, trainer, type, LocalDateTime.now());
+    private Training createTraining(Trainee trainee, Trainer trainer, TrainingType type) {
+        return createTraining(trainee, trainer, type, LocalDateTime.now());
     }
 
-    private void createTraining(Trainee trainee, Trainer trainer, TrainingType type, LocalDateTime date) {
+    private Training createTraining(Trainee trainee, Trainer trainer, TrainingType type, LocalDateTime date) {
         Training training = new Training();
         training.setTrainee(trainee);
         training.setTrainer(trainer);
@@ -222,5 +430,6 @@ class TraineeRepositoryTests {
         training.setTrainingDurationInMinutes(40);
 
         entityManager.persist(training);
+        return training;
     }
 }
\ No newline at end of file
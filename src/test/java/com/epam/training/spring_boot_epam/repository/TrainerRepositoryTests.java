@@ -1,13 +1,20 @@
 package com.epam.training.spring_boot_epam.repository;
 
 import com.epam.training.spring_boot_epam.domain.*;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingCursor;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
+import com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO;
 import com.epam.training.spring_boot_epam.repository.impl.TrainerDaoImpl;
 import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -59,21 +66,39 @@ class TrainerRepositoryTests {
     void findTrainerTrainings_ShouldFilterCorrectly() {
         Trainer trainer = createTrainer(createUser("trainer.user"));
         Trainee trainee1 = createTrainee(createUser("trainee1"));
-        Trainee trainee2 = createTrainee(createUser("trainee2"));
+        User secondUser = createUser("trainee2");
+        secondUser.setFirstName("Maria");
+        Trainee trainee2 = createTrainee(secondUser);
         TrainingType type = createTrainingType("Yoga");
 
         createTraining(trainee1, trainer, type, LocalDateTime.of(2023, 1, 1, 10, 0));
         createTraining(trainee2, trainer, type, LocalDateTime.of(2023, 2, 1, 10, 0));
 
-        List<Training> results = trainerDao.findTrainerTrainings(
+        List<TrainerFilterResponseDTO> results = trainerDao.findTrainerTrainings(
                 "trainer.user",
-                "",
                 LocalDateTime.of(2023, 1, 1, 0, 0),
                 LocalDateTime.of(2023, 3, 1, 0, 0),
-                "trainee2"
+                "mari",
+                null
         );
 
-        assertThat(results).isEmpty();
+        assertThat(results).extracting(TrainerFilterResponseDTO::getTrainingDateTime)
+                .containsExactly(LocalDateTime.of(2023, 2, 1, 10, 0));
+    }
+
+    @Test
+    void findTrainerTrainings_ShouldOnlyUseQueriesPrecompiledAtStartup() {
+        Trainer trainer = createTrainer(createUser("trainer.user"));
+        createTraining(createTrainee(createUser("trainee1")), trainer, createTrainingType("Yoga"), LocalDateTime.of(2023, 1, 1, 10, 0));
+        Statistics statistics = clearAndResetStatistics();
+
+        String cursor = new TrainingCursor(LocalDateTime.of(2022, 1, 1, 0, 0), 0L).encode();
+        List<TrainerFilterResponseDTO> results = trainerDao.findTrainerTrainings("trainer.user", null,
+                LocalDateTime.of(2024, 1, 1, 0, 0), "first", TrainingPageRequest.of(cursor, Sort.Direction.ASC, 10));
+
+        assertThat(results).hasSize(1);
+        assertThat(statistics.getQueryPlanCacheMissCount()).isZero();
+        assertThat(statistics.getQueryPlanCacheHitCount()).isPositive();
     }
 
     @Test
@@ -104,6 +129,28 @@ class TrainerRepositoryTests {
         assertThat(trainees).containsExactlyInAnyOrder(trainee1, trainee2);
     }
 
+    @Test
+    void findAllActive_ShouldSkipInactiveTrainersAndOrderBySpecialization() {
+        TrainingType first = createTrainingType("First");
+        TrainingType second = createTrainingType("Second");
+        Trainer secondTypeTrainer = createTrainer(createUser("trainer.second"));
+        secondTypeTrainer.setSpecialization(second);
+        Trainer firstTypeTrainer = createTrainer(createUser("trainer.first"));
+        firstTypeTrainer.setSpecialization(first);
+        Trainer inactive = createTrainer(createUser("trainer.inactive"));
+        inactive.setSpecialization(first);
+        inactive.getUser().setActive(false);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Trainer> active = trainerDao.findAllActive();
+
+        assertThat(active).extracting(Trainer::getId)
+                .filteredOn(id -> id.equals(firstTypeTrainer.getId()) || id.equals(secondTypeTrainer.getId()) || id.equals(inactive.getId()))
+                .containsExactly(firstTypeTrainer.getId(), secondTypeTrainer.getId());
+        assertThat(active).allSatisfy(trainer -> assertThat(Hibernate.isInitialized(trainer.getSpecialization())).isTrue());
+    }
+
     @Test
     void update_ShouldModifyTrainerDetails() {
         User user = createUser("trainer.user");
@@ -149,6 +196,36 @@ class TrainerRepositoryTests {
         assertThat(trainerDao.existsByUsername("nonexistent.user")).isFalse();
     }
 
+    @Test
+    void findByUsername_ShouldNotLoadTraineesOrTrainings() {
+        Trainer trainer = createTrainer(createUser("trainer.user"));
+        TrainingType type = createTrainingType("Yoga");
+        for (int i = 0; i < 3; i++) {
+            Trainee trainee = createTrainee(createUser("trainee" + i));
+            trainee.getTrainers().add(trainer);
+            createTraining(trainee, trainer, type);
+        }
+        Statistics statistics = clearAndResetStatistics();
+
+        Trainer found = trainerDao.findByUsername("trainer.user").orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(Hibernate.isInitialized(found.getTrainees())).isFalse();
+        assertThat(Hibernate.isInitialized(found.getTrainings())).isFalse();
+    }
+
+    @Test
+    void findProfileByUsername_ShouldLoadSpecializationInSingleStatement() {
+        Trainer trainer = createTrainer(createUser("trainer.user"));
+        trainer.setSpecialization(createTrainingType("Yoga"));
+        Statistics statistics = clearAndResetStatistics();
+
+        Trainer found = trainerDao.findProfileByUsername("trainer.user").orElseThrow();
+
+        assertThat(found.getSpecialization().getTrainingTypeName()).isEqualTo("Yoga");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
    /* @Test
     void findTrainerTrainings_ShouldFilterCorrectly() {
         Trainer trainer = createTrainer(createUser("trainer.user"));
@@ -178,6 +255,15 @@ class TrainerRepositoryTests {
     }
 */
     // Helper methods
+    private Statistics clearAndResetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
     private User createUser(String username) {
         User user = new User();
         user.setUsername(username);
@@ -0,0 +1,175 @@
+package com.epam.training.spring_boot_epam.repository;
+
+import com.epam.training.spring_boot_epam.domain.Trainee;
+import com.epam.training.spring_boot_epam.domain.Trainer;
+import com.epam.training.spring_boot_epam.domain.Training;
+import com.epam.training.spring_boot_epam.domain.TrainingType;
+import com.epam.training.spring_boot_epam.domain.User;
+import com.epam.training.spring_boot_epam.repository.impl.TrainingDaoImpl;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Inserts 100k trainings through {@link TrainingDaoImpl#save} once with JDBC batching switched off
+ * (one round trip per row, as with IDENTITY keys) and once with the configured batch size, and
+ * records them the way {@code addTraining} does to show the collections add no writes of their own.
+ * Excluded from {@code test}; run with {@code ./gradlew benchmarkTest}.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.show_sql=false")
+@Import(TrainingDaoImpl.class)
+@ActiveProfiles("dev")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TrainingInsertBenchmarkTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrainingInsertBenchmarkTests.class);
+    private static final int ROWS = 100_000;
+    private static final int FLUSH_EVERY = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TrainingDaoImpl trainingDao;
+
+    @Test
+    void save_WithJdbcBatching_ShouldCutRoundTrips() {
+        Fixture fixture = createFixture();
+
+        Result unbatched = insertTrainings(fixture, 1);
+        Result batched = insertTrainings(fixture, null);
+
+        LOGGER.info("Unbatched: {} rows, {} statements, {} rows/s", ROWS, unbatched.statements(), unbatched.rowsPerSecond());
+        LOGGER.info("Batched:   {} rows, {} statements, {} rows/s", ROWS, batched.statements(), batched.rowsPerSecond());
+
+        assertThat(batched.statements()).isLessThan(unbatched.statements() / 10);
+    }
+
+    /**
+     * Records trainings the way {@code addTraining} does, keeping both sides' {@code trainings}
+     * collections in sync. With the collections mapped by the FK columns this costs the same
+     * batched single-table inserts as plain saves; the old join tables added two rows per training.
+     */
+    @Test
+    void recordTraining_WithMappedByCollections_ShouldOnlyInsertTrainingRows() {
+        Fixture fixture = createFixture();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        long started = System.nanoTime();
+        Trainer trainer = entityManager.find(Trainer.class, fixture.trainerId());
+        Trainee trainee = entityManager.find(Trainee.class, fixture.traineeId());
+        for (int i = 0; i < ROWS; i++) {
+            Training training = newTraining(fixture, i);
+            training.setTrainer(trainer);
+            training.setTrainee(trainee);
+            trainingDao.save(training);
+            trainer.getTrainings().add(training);
+            trainee.getTrainings().add(training);
+
+            if ((i + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                trainer = entityManager.find(Trainer.class, fixture.trainerId());
+                trainee = entityManager.find(Trainee.class, fixture.traineeId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsedNanos = System.nanoTime() - started;
+
+        long rows = ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM trainings WHERE trainee_id = :id")
+                .setParameter("id", fixture.traineeId())
+                .getSingleResult()).longValue();
+        LOGGER.info("Recorded: {} trainings, {} statements, {} rows/s", ROWS, statistics.getPrepareStatementCount(),
+                ROWS * 1_000_000_000L / Math.max(elapsedNanos, 1));
+
+        assertThat(rows).isEqualTo(ROWS);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        // per flush: one insert batch, one sequence call and the two re-reads of trainer and trainee
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / FLUSH_EVERY * 5);
+    }
+
+    private Result insertTrainings(Fixture fixture, Integer jdbcBatchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(jdbcBatchSize);
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        long started = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            Training training = newTraining(fixture, i);
+            training.setTrainer(entityManager.getReference(Trainer.class, fixture.trainerId()));
+            training.setTrainee(entityManager.getReference(Trainee.class, fixture.traineeId()));
+            trainingDao.save(training);
+
+            if ((i + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsedNanos = System.nanoTime() - started;
+
+        return new Result(statistics.getPrepareStatementCount(), ROWS * 1_000_000_000L / Math.max(elapsedNanos, 1));
+    }
+
+    private Training newTraining(Fixture fixture, int i) {
+        Training training = new Training();
+        training.setTrainingType(entityManager.getReference(TrainingType.class, fixture.trainingTypeId()));
+        training.setTrainingName("Benchmark training " + i);
+        training.setTrainingDateTime(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i));
+        training.setTrainingDurationInMinutes(60);
+        return training;
+    }
+
+    private Fixture createFixture() {
+        TrainingType type = new TrainingType();
+        type.setTrainingTypeName("Benchmark");
+        entityManager.persist(type);
+
+        Trainer trainer = new Trainer();
+        trainer.setUser(createUser("benchmark.trainer", "ROLE_TRAINER"));
+        trainer.setSpecialization(type);
+        entityManager.persist(trainer);
+
+        Trainee trainee = new Trainee();
+        trainee.setUser(createUser("benchmark.trainee", "ROLE_TRAINEE"));
+        entityManager.persist(trainee);
+
+        entityManager.flush();
+        entityManager.clear();
+        return new Fixture(trainer.getId(), trainee.getId(), type.getId());
+    }
+
+    private User createUser(String username, String role) {
+        User user = new User("Bench", "Mark", username, "password", true);
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private record Fixture(Long trainerId, Long traineeId, Long trainingTypeId) {
+    }
+
+    private record Result(long statements, long rowsPerSecond) {
+    }
+}
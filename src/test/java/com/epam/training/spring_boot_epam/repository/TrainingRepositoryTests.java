@@ -7,6 +7,8 @@ import com.epam.training.spring_boot_epam.domain.TrainingType;
 import com.epam.training.spring_boot_epam.domain.User;
 import com.epam.training.spring_boot_epam.repository.impl.TrainingDaoImpl;
 import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
@@ -106,6 +108,29 @@ class TrainingRepositoryTests {
         assertThat(trainings).isNotNull();
     }
 
+    @Test
+    void save_ShouldWriteOnlyTheTrainingsRow() {
+        Training training = createTraining("Test Training");
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        trainingDao.save(training);
+        // both collections are mapped by the training's FK columns, so keeping them in sync writes nothing
+        training.getTrainee().getTrainings().add(training);
+        training.getTrainer().getTrainings().add(training);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        Number joinTables = (Number) entityManager.createNativeQuery("""
+                        SELECT COUNT(*) FROM information_schema.tables
+                        WHERE table_name IN ('trainees_trainings', 'trainers_trainings')
+                        """)
+                .getSingleResult();
+        assertThat(joinTables.longValue()).isZero();
+    }
+
     // Helper methods
     private Training createTraining(String name) {
         User trainerUser = createUser("trainer.user", "ROLE_TRAINER");
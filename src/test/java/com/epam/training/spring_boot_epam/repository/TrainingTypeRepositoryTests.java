@@ -5,19 +5,16 @@ import com.epam.training.spring_boot_epam.repository.impl.TrainingTypeDaoImpl;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
-import org.junit.jupiter.api.BeforeAll;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.test.context.ActiveProfiles;
 
-import javax.sql.DataSource;
-import java.sql.Connection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,19 +33,6 @@ class TrainingTypeRepositoryTests {
     @Autowired
     private TrainingTypeDaoImpl trainingTypeDao;
 
-    @Autowired
-    private DataSource dataSource;
-
-    @BeforeAll
-    void init() throws Exception {
-        List<TrainingType> trainingTypes = trainingTypeDao.findAll();
-        if (trainingTypes.isEmpty()) {
-            try (Connection connection = dataSource.getConnection()) {
-                ScriptUtils.executeSqlScript(connection, new ClassPathResource("import/initial.sql"));
-            }
-        }
-    }
-
     @Test
     void findById_WhenTrainingTypeExists_ShouldReturnTrainingType() {
         TrainingType trainingType = createTrainingType("Strength Training");
@@ -86,6 +70,24 @@ class TrainingTypeRepositoryTests {
         assertThat(trainingTypes).isNotEmpty();
     }
 
+    @Test
+    void findById_AfterFirstLoad_ShouldBeServedFromSecondLevelCache() {
+        Long id = trainingTypeDao.findAll().get(0).getId();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        trainingTypeDao.findById(id);
+        long statementsAfterFirstLoad = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        Optional<TrainingType> cached = trainingTypeDao.findById(id);
+
+        assertThat(cached).isPresent();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsAfterFirstLoad);
+        assertThat(statistics.getDomainDataRegionStatistics(TrainingType.CACHE_REGION).getHitCount()).isPositive();
+    }
+
     // Helper method
     private TrainingType createTrainingType(String name) {
         TrainingType trainingType = new TrainingType();
@@ -2,6 +2,7 @@ package com.epam.training.spring_boot_epam.repository;
 
 import com.epam.training.spring_boot_epam.domain.User;
 import com.epam.training.spring_boot_epam.repository.impl.UserDaoImpl;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +13,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -135,6 +138,31 @@ class UserRepositoryTests {
         assertThat(updated).isFalse();
     }
 
+    @Test
+    void findPrincipalByUsername_WhenUserExists_ShouldReturnProjection() {
+        User user = createUser("password123");
+        entityManager.persist(user);
+        entityManager.flush();
+
+        Optional<AuthenticatedUser> found = userDao.findPrincipalByUsername("test.user");
+
+        assertThat(found).contains(new AuthenticatedUser(user.getId(), "test.user", "password123", "ROLE_USER", true));
+    }
+
+    @Test
+    void findUsernamesStartingWith_ShouldTreatUnderscoreLiterally() {
+        for (String username : List.of("ann_lee", "ann_lee1", "annxlee", "bob_ray2")) {
+            User user = createUser("password123");
+            user.setUsername(username);
+            entityManager.persist(user);
+        }
+        entityManager.flush();
+
+        Set<String> found = userDao.findUsernamesStartingWith(List.of("ann_lee", "bob_ray", "ann_lee"));
+
+        assertThat(found).containsExactlyInAnyOrder("ann_lee", "ann_lee1", "bob_ray2");
+    }
+
     private User createUser(String password) {
         User user = new User();
         user.setUsername("test.user");
@@ -0,0 +1,17 @@
+package com.epam.training.spring_boot_epam.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthenticatedUserTests {
+
+    @Test
+    void toString_ShouldMaskPasswordHash() {
+        AuthenticatedUser user = new AuthenticatedUser(1L, "john_doe", "$2a$12$hash", "ROLE_TRAINEE", true);
+
+        assertThat(user.toString())
+                .doesNotContain("$2a$12$hash")
+                .contains("username=john_doe", "password=[PROTECTED]");
+    }
+}
@@ -0,0 +1,36 @@
+package com.epam.training.spring_boot_epam.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BCryptCostCalibratorTests {
+
+    private static final long PROBE_NANOS = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void selectCost_ShouldPickHighestCostWithinBudget() {
+        // 1 ms at the probe cost 8 doubles per step: 4 ms at 10, 8 ms at 11, 16 ms at 12
+        assertThat(BCryptCostCalibrator.selectCost(PROBE_NANOS, Duration.ofMillis(16), 10, 14)).isEqualTo(12);
+        assertThat(BCryptCostCalibrator.selectCost(PROBE_NANOS, Duration.ofMillis(15), 10, 14)).isEqualTo(11);
+    }
+
+    @Test
+    void selectCost_WhenBudgetBelowMinCost_ShouldClampToMinCost() {
+        assertThat(BCryptCostCalibrator.selectCost(PROBE_NANOS, Duration.ofMillis(1), 10, 14)).isEqualTo(10);
+    }
+
+    @Test
+    void selectCost_WhenBudgetAboveMaxCost_ShouldClampToMaxCost() {
+        assertThat(BCryptCostCalibrator.selectCost(PROBE_NANOS, Duration.ofHours(1), 10, 14)).isEqualTo(14);
+    }
+
+    @Test
+    void calibrate_ShouldStayWithinBoundsWhateverTheMachine() {
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ZERO, 10, 12)).isEqualTo(10);
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ofHours(1), 10, 12)).isEqualTo(12);
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ofMillis(250), 11, 11)).isEqualTo(11);
+    }
+}
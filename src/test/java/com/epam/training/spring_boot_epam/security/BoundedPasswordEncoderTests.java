@@ -0,0 +1,107 @@
+package com.epam.training.spring_boot_epam.security;
+
+import com.epam.training.spring_boot_epam.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundedPasswordEncoderTests {
+
+    // a thread per blocked caller; the common pool may have a single thread
+    private static final Executor CALLER = runnable -> new Thread(runnable).start();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private volatile boolean blockEncode;
+    private volatile boolean failHashing;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(1);
+        properties.setQueueCapacity(1);
+        encoder = new BoundedPasswordEncoder(new StubEncoder(), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    void encode_WhenQueueFull_ShouldRejectWithTooManyRequests() throws Exception {
+        blockEncode = true;
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"), CALLER);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"), CALLER);
+        awaitQueueDepth(1);
+
+        assertThrows(TooManyRequestsException.class, () -> encoder.encode("third"));
+        assertThrows(TooManyRequestsException.class, () -> encoder.matches("third", "{stub}third"));
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("{stub}first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("{stub}second");
+    }
+
+    @Test
+    void encodeAndMatches_WhenDelegateThrows_ShouldReleaseWorkerAndQueueSlot() {
+        failHashing = true;
+        // more failures than the single worker and queue slot could absorb if they leaked
+        for (int i = 0; i < 5; i++) {
+            IllegalArgumentException encodeFailure = assertThrows(IllegalArgumentException.class, () -> encoder.encode("secret"));
+            assertThat(encodeFailure).hasMessage("hashing failed");
+            assertThrows(IllegalArgumentException.class, () -> encoder.matches("secret", "{stub}secret"));
+        }
+
+        failHashing = false;
+        assertThat(encoder.encode("secret")).isEqualTo("{stub}secret");
+        assertThat(encoder.matches("secret", "{stub}secret")).isTrue();
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (meterRegistry.get("auth.hash.queue.depth").gauge().value() < depth
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get("auth.hash.queue.depth").gauge().value()).isEqualTo(depth);
+    }
+
+    private class StubEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (failHashing) {
+                throw new IllegalArgumentException("hashing failed");
+            }
+            if (blockEncode) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "{stub}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (failHashing) {
+                throw new IllegalArgumentException("hashing failed");
+            }
+            return encodedPassword.equals("{stub}" + rawPassword);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.epam.training.spring_boot_epam.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeyedTokenBucketTests {
+
+    private static final long MAXIMUM_KEYS = 1_000;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private KeyedTokenBucket bucket;
+
+    @BeforeEach
+    void setUp() {
+        bucket = new KeyedTokenBucket(new LoginRateLimitProperties.Bucket(5, Duration.ofMinutes(5)), MAXIMUM_KEYS, clock::get);
+    }
+
+    @Test
+    void tryAcquire_WhenBurstExhausted_ShouldReject() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire("john_doe")).isTrue();
+        }
+
+        assertThat(bucket.tryAcquire("john_doe")).isFalse();
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepKeysIndependent() {
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire("john_doe");
+        }
+
+        assertThat(bucket.tryAcquire("jane_smith")).isTrue();
+    }
+
+    @Test
+    void tryAcquire_AfterEmissionInterval_ShouldRefillOnePermit() {
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire("john_doe");
+        }
+
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertThat(bucket.tryAcquire("john_doe")).isTrue();
+        assertThat(bucket.tryAcquire("john_doe")).isFalse();
+    }
+
+    @Test
+    void tryAcquire_WhenManyOtherKeysArrive_ShouldKeepExhaustedBucket() {
+        for (int i = 0; i < 5; i++) {
+            bucket.tryAcquire("john_doe");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            bucket.tryAcquire("sprayed_" + i);
+        }
+
+        assertThat(bucket.tryAcquire("john_doe")).isFalse();
+    }
+
+    @Test
+    void tryAcquire_WhenMaximumKeysReached_ShouldRejectNewKeysUntilIdleOnesExpire() {
+        bucket.tryAcquire("john_doe");
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        for (int i = 0; i < 2 * MAXIMUM_KEYS; i++) {
+            bucket.tryAcquire("sprayed_" + i);
+        }
+
+        assertThat(bucket.estimatedSize()).isEqualTo(MAXIMUM_KEYS);
+        assertThat(bucket.tryAcquire("jane_smith")).isFalse();
+        assertThat(bucket.tryAcquire("sprayed_0")).isTrue();
+
+        // john_doe goes idle first, which frees a slot for the next new key
+        clock.addAndGet(Duration.ofMinutes(4).plusSeconds(1).toNanos());
+        assertThat(bucket.tryAcquire("jane_smith")).isTrue();
+    }
+
+    @Test
+    void estimatedSize_AfterIdlePeriod_ShouldDropKey() {
+        bucket.tryAcquire("john_doe");
+
+        clock.addAndGet(Duration.ofMinutes(5).plusSeconds(1).toNanos());
+
+        assertThat(bucket.estimatedSize()).isZero();
+    }
+}
@@ -0,0 +1,95 @@
+package com.epam.training.spring_boot_epam.security;
+
+import com.epam.training.spring_boot_epam.repository.UserDao;
+import com.epam.training.spring_boot_epam.security.service.impl.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Login through the provider wired by {@link SecurityBeansConfig}: hashes without the {bcrypt}
+ * prefix or below the configured cost are re-encoded and handed to the UserDetailsPasswordService.
+ */
+@ExtendWith(MockitoExtension.class)
+class PasswordUpgradeTests {
+
+    private static final int COST = 5;
+
+    @Mock
+    private UserDao userDao;
+
+    private BoundedPasswordEncoder passwordEncoder;
+    private AuthenticationProvider authenticationProvider;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setCost(COST);
+        properties.setThreads(1);
+        SecurityBeansConfig config = new SecurityBeansConfig(
+                new CustomUserDetailsService(userDao, new UserCacheProperties(), new SimpleMeterRegistry()));
+        passwordEncoder = (BoundedPasswordEncoder) config.passwordEncoder(properties, new SimpleMeterRegistry());
+        authenticationProvider = config.authenticationProvider(passwordEncoder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void authenticate_WithUnprefixedLegacyHash_ShouldStorePrefixedHashAtConfiguredCost() {
+        String upgraded = loginAndCaptureUpgrade(new BCryptPasswordEncoder(4).encode("secret"));
+
+        assertThat(upgraded).startsWith("{bcrypt}$2a$05$");
+        assertThat(passwordEncoder.matches("secret", upgraded)).isTrue();
+    }
+
+    @Test
+    void authenticate_WithHashBelowConfiguredCost_ShouldRehash() {
+        String upgraded = loginAndCaptureUpgrade("{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret"));
+
+        assertThat(upgraded).startsWith("{bcrypt}$2a$05$");
+    }
+
+    @Test
+    void authenticate_WithCurrentHash_ShouldNotRehash() {
+        givenStoredHash("{bcrypt}" + new BCryptPasswordEncoder(COST).encode("secret"));
+
+        authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken("john_doe", "secret"));
+
+        verify(userDao, never()).updatePassword(anyString(), anyString());
+    }
+
+    private String loginAndCaptureUpgrade(String storedHash) {
+        givenStoredHash(storedHash);
+
+        authenticationProvider.authenticate(new UsernamePasswordAuthenticationToken("john_doe", "secret"));
+
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        verify(userDao).updatePassword(eq("john_doe"), newHash.capture());
+        return newHash.getValue();
+    }
+
+    private void givenStoredHash(String hash) {
+        when(userDao.findPrincipalByUsername("john_doe"))
+                .thenReturn(Optional.of(new AuthenticatedUser(1L, "john_doe", hash, "ROLE_TRAINEE", true)));
+    }
+}
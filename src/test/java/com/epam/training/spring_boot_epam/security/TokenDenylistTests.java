@@ -0,0 +1,41 @@
+package com.epam.training.spring_boot_epam.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDenylistTests {
+
+    private static final long SECOND = 1_700_000_000_000L;
+
+    private final TokenDenylist denylist = new TokenDenylist();
+    private final Date expiresAt = new Date(SECOND + 3_600_000L);
+
+    @Test
+    void isRevoked_WhenOlderTokenIssuedInSameSecondAsLogin_ShouldRevoke() {
+        denylist.startSession("john_doe", "second", new Date(SECOND + 900), expiresAt);
+
+        // iat only carries seconds, the earlier token of that second reads as SECOND as well
+        assertThat(denylist.isRevoked("first", "john_doe", new Date(SECOND))).isTrue();
+        assertThat(denylist.isRevoked("second", "john_doe", new Date(SECOND))).isFalse();
+    }
+
+    @Test
+    void isRevoked_WhenIssuedAfterWatermark_ShouldAccept() {
+        denylist.revokeIssuedBefore("john_doe", new Date(SECOND + 500), expiresAt);
+
+        assertThat(denylist.isRevoked("old", "john_doe", new Date(SECOND))).isTrue();
+        assertThat(denylist.isRevoked("new", "john_doe", new Date(SECOND + 1000))).isFalse();
+        assertThat(denylist.isRevoked("other", "jane_doe", new Date(SECOND))).isFalse();
+    }
+
+    @Test
+    void startSession_WhenEarlierThanCurrentWatermark_ShouldKeepLaterOne() {
+        denylist.revokeIssuedBefore("john_doe", new Date(SECOND + 2000), expiresAt);
+        denylist.startSession("john_doe", "late", new Date(SECOND + 1000), expiresAt);
+
+        assertThat(denylist.isRevoked("late", "john_doe", new Date(SECOND + 1000))).isTrue();
+    }
+}
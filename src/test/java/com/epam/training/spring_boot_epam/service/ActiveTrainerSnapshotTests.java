@@ -0,0 +1,81 @@
+package com.epam.training.spring_boot_epam.service;
+
+import com.epam.training.spring_boot_epam.domain.Trainer;
+import com.epam.training.spring_boot_epam.domain.TrainingType;
+import com.epam.training.spring_boot_epam.domain.User;
+import com.epam.training.spring_boot_epam.event.TrainersChangedEvent;
+import com.epam.training.spring_boot_epam.repository.TrainerDao;
+import com.epam.training.spring_boot_epam.service.impl.ActiveTrainerSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveTrainerSnapshotTests {
+
+    @Mock
+    private TrainerDao trainerDao;
+
+    private ActiveTrainerSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = new ActiveTrainerSnapshot(trainerDao);
+    }
+
+    @Test
+    void bySpecialization_ShouldGroupTrainersAndLoadOnce() {
+        TrainingType yoga = new TrainingType(1L, "Yoga");
+        TrainingType boxing = new TrainingType(2L, "Boxing");
+        when(trainerDao.findAllActive()).thenReturn(List.of(
+                trainer(10L, "yoga.one", yoga), trainer(11L, "yoga.two", yoga), trainer(20L, "boxing.one", boxing)));
+
+        snapshot.bySpecialization();
+        var groups = snapshot.bySpecialization();
+
+        assertThat(groups).containsOnlyKeys(1L, 2L);
+        assertThat(groups.get(1L)).extracting(ActiveTrainerSnapshot.ActiveTrainer::username).containsExactly("yoga.one", "yoga.two");
+        assertThat(groups.get(2L)).extracting(ActiveTrainerSnapshot.ActiveTrainer::id).containsExactly(20L);
+        verify(trainerDao, times(1)).findAllActive();
+    }
+
+    @Test
+    void excluding_ShouldReturnActiveTrainersNotInGivenIds() {
+        TrainingType yoga = new TrainingType(1L, "Yoga");
+        when(trainerDao.findAllActive()).thenReturn(List.of(trainer(10L, "yoga.one", yoga), trainer(11L, "yoga.two", yoga)));
+
+        assertThat(snapshot.excluding(Set.of(10L))).extracting(ActiveTrainerSnapshot.ActiveTrainer::id).containsExactly(11L);
+    }
+
+    @Test
+    void onTrainersChanged_ShouldReloadOnNextRead() {
+        TrainingType yoga = new TrainingType(1L, "Yoga");
+        when(trainerDao.findAllActive())
+                .thenReturn(List.of(trainer(10L, "yoga.one", yoga)))
+                .thenReturn(List.of(trainer(10L, "yoga.one", yoga), trainer(11L, "yoga.two", yoga)));
+
+        assertThat(snapshot.excluding(Set.of())).hasSize(1);
+        snapshot.onTrainersChanged(new TrainersChangedEvent());
+
+        assertThat(snapshot.excluding(Set.of())).hasSize(2);
+        verify(trainerDao, times(2)).findAllActive();
+    }
+
+    private Trainer trainer(Long id, String username, TrainingType specialization) {
+        User user = new User("First", "Last", true);
+        user.setUsername(username);
+        Trainer trainer = new Trainer(user, specialization);
+        trainer.setId(id);
+        return trainer;
+    }
+}
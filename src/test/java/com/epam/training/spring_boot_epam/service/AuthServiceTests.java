@@ -0,0 +1,77 @@
+package com.epam.training.spring_boot_epam.service;
+
+import com.epam.training.spring_boot_epam.dto.request.PasswordChangeRequest;
+import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.exception.DomainException;
+import com.epam.training.spring_boot_epam.repository.UserDao;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
+import com.epam.training.spring_boot_epam.security.service.JwtService;
+import com.epam.training.spring_boot_epam.security.service.RefreshTokenService;
+import com.epam.training.spring_boot_epam.security.service.impl.AuthServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTests {
+
+    @Mock
+    private UserDao userDao;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @InjectMocks
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        when(userDao.findPrincipalByUsername("john_doe"))
+                .thenReturn(Optional.of(new AuthenticatedUser(1L, "john_doe", "old-hash", "ROLE_TRAINEE", true)));
+    }
+
+    @Test
+    void changePassword_WhenSuccessful_ShouldRevokeRefreshAndAccessTokens() {
+        when(passwordEncoder.matches("old", "old-hash")).thenReturn(true);
+        when(passwordEncoder.matches("new", "old-hash")).thenReturn(false);
+        when(passwordEncoder.encode("new")).thenReturn("new-hash");
+        when(userDao.updatePassword("john_doe", "new-hash")).thenReturn(true);
+
+        ApiResponse<Void> response = authService.changePassword(new PasswordChangeRequest("john_doe", "old", "new"));
+
+        assertThat(response.isSuccess()).isTrue();
+        verify(refreshTokenService).revokeAll("john_doe");
+        verify(jwtService).revokeAllTokens("john_doe");
+    }
+
+    @Test
+    void changePassword_WhenOldPasswordWrong_ShouldKeepSessions() {
+        when(passwordEncoder.matches("wrong", "old-hash")).thenReturn(false);
+
+        assertThrows(DomainException.class,
+                () -> authService.changePassword(new PasswordChangeRequest("john_doe", "wrong", "new")));
+
+        verify(userDao, never()).updatePassword(anyString(), anyString());
+        verify(refreshTokenService, never()).revokeAll(anyString());
+        verify(jwtService, never()).revokeAllTokens(anyString());
+    }
+}
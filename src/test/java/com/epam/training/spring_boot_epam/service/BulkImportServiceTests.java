@@ -0,0 +1,219 @@
+package com.epam.training.spring_boot_epam.service;
+
+import com.epam.training.spring_boot_epam.config.ImportProperties;
+import com.epam.training.spring_boot_epam.domain.Trainee;
+import com.epam.training.spring_boot_epam.domain.Trainer;
+import com.epam.training.spring_boot_epam.domain.TrainingType;
+import com.epam.training.spring_boot_epam.domain.User;
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportFormat;
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportStatus;
+import com.epam.training.spring_boot_epam.domain.enumeration.ImportType;
+import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
+import com.epam.training.spring_boot_epam.dto.response.ImportJobDTO;
+import com.epam.training.spring_boot_epam.exception.ForbiddenException;
+import com.epam.training.spring_boot_epam.repository.TraineeDao;
+import com.epam.training.spring_boot_epam.repository.TrainerDao;
+import com.epam.training.spring_boot_epam.repository.TrainingTypeDao;
+import com.epam.training.spring_boot_epam.repository.UserDao;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
+import com.epam.training.spring_boot_epam.service.impl.BulkImportServiceImpl;
+import com.epam.training.spring_boot_epam.service.impl.BulkImportWriter;
+import com.epam.training.spring_boot_epam.util.DomainUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkImportServiceTests {
+
+    @Mock
+    private TraineeDao traineeDao;
+
+    @Mock
+    private TrainerDao trainerDao;
+
+    @Mock
+    private TrainingTypeDao trainingTypeDao;
+
+    @Mock
+    private UserDao userDao;
+
+    @Mock
+    private BulkImportWriter writer;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private DomainUtils domainUtils;
+
+    @Captor
+    private ArgumentCaptor<List<Trainee>> traineesCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<Trainer>> trainersCaptor;
+
+    private BulkImportServiceImpl bulkImportService;
+
+    @BeforeEach
+    void setUp() {
+        bulkImportService = new BulkImportServiceImpl(traineeDao, trainerDao, trainingTypeDao, userDao, writer,
+                passwordEncoder, domainUtils, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().findAndRegisterModules(), new ImportProperties());
+
+        User admin = new User("Admin", "User", "admin", "password", true);
+        admin.setRole("ROLE_ADMIN");
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(admin));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkImportService.destroy();
+    }
+
+    @Test
+    void submit_NdjsonTrainees_ShouldImportValidRowsAndReportBadOnes() throws Exception {
+        when(userDao.findUsernamesStartingWith(anyCollection())).thenReturn(new HashSet<>(Set.of("john_doe")));
+        when(passwordEncoder.encode(anyString())).thenReturn("{bcrypt}hash");
+        String body = """
+                {"firstName":"John","lastName":"Doe","address":"Main St","birthDate":"1990-01-01"}
+                {"lastName":"Nofirst"}
+                {"firstName":"Bad","lastName":"Date","birthDate":"yesterday"}
+                {"firstName":"John","lastName":"Doe"}
+                """;
+
+        ImportJobDTO job = submit(ImportType.TRAINEES, ImportFormat.NDJSON, body);
+
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.getProcessedRows()).isEqualTo(4);
+        assertThat(job.getSucceededRows()).isEqualTo(2);
+        assertThat(job.getFailedRows()).isEqualTo(2);
+        assertThat(job.getErrors()).extracting("row").containsExactly(2L, 3L);
+
+        verify(traineeDao).saveAll(traineesCaptor.capture());
+        assertThat(traineesCaptor.getValue())
+                .extracting(trainee -> trainee.getUser().getUsername())
+                .containsExactly("john_doe1", "john_doe2");
+        assertThat(traineesCaptor.getValue()).allMatch(trainee -> "{bcrypt}hash".equals(trainee.getUser().getPassword()));
+
+        List<AuthDTO> credentials = bulkImportService.collectCredentials(job.getId()).getData();
+        assertThat(credentials).extracting(AuthDTO::getUsername).containsExactly("john_doe1", "john_doe2");
+        assertThat(credentials).allMatch(credential -> credential.getPassword().length() == 10);
+        assertThat(bulkImportService.collectCredentials(job.getId()).getData()).isEmpty();
+    }
+
+    @Test
+    void submit_CsvTrainersWithUnknownTrainingType_ShouldSkipThatRow() throws Exception {
+        when(trainingTypeDao.findAll()).thenReturn(List.of(new TrainingType(1L, "Yoga")));
+        when(userDao.findUsernamesStartingWith(anyCollection())).thenReturn(new HashSet<>());
+        when(passwordEncoder.encode(anyString())).thenReturn("{bcrypt}hash");
+        String body = """
+                firstName,lastName,trainingTypeId
+                Jane,Smith,1
+                Jim,Beam,42
+                """;
+
+        ImportJobDTO job = submit(ImportType.TRAINERS, ImportFormat.CSV, body);
+
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.getSucceededRows()).isEqualTo(1);
+        assertThat(job.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).isEqualTo("Training type not found: 42"));
+
+        verify(trainerDao).saveAll(trainersCaptor.capture());
+        assertThat(trainersCaptor.getValue()).singleElement()
+                .satisfies(trainer -> {
+                    assertThat(trainer.getUser().getUsername()).isEqualTo("jane_smith");
+                    assertThat(trainer.getSpecialization().getTrainingTypeName()).isEqualTo("Yoga");
+                });
+    }
+
+    @Test
+    void submit_MalformedNdjson_ShouldFailJob() throws Exception {
+        ImportJobDTO job = submit(ImportType.TRAINEES, ImportFormat.NDJSON, "{\"firstName\":\"John\",\n");
+
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(job.getFailureMessage()).startsWith("Malformed input");
+    }
+
+    @Test
+    void getJob_ByAnotherUser_ShouldThrowForbiddenException() throws Exception {
+        ImportJobDTO job = submit(ImportType.TRAINEES, ImportFormat.NDJSON, "");
+
+        User other = new User("Other", "User", "other", "password", true);
+        other.setRole("ROLE_TRAINEE");
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(other));
+
+        assertThrows(ForbiddenException.class, () -> bulkImportService.getJob(job.getId()));
+    }
+
+    @Test
+    void getJob_WhileRunningOrQueued_ShouldNotExpireOrBeEvicted() throws Exception {
+        ImportProperties properties = new ImportProperties();
+        properties.setMaxJobs(1);
+        properties.setJobRetention(Duration.ofMillis(1));
+        BulkImportServiceImpl service = new BulkImportServiceImpl(traineeDao, trainerDao, trainingTypeDao, userDao, writer,
+                passwordEncoder, domainUtils, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().findAndRegisterModules(), properties);
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userDao.findUsernamesStartingWith(anyCollection())).thenReturn(new HashSet<>());
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            hashing.countDown();
+            release.await();
+            return "{bcrypt}hash";
+        });
+
+        try {
+            String running = service.submit(ImportType.TRAINEES, ImportFormat.NDJSON, new ByteArrayInputStream(
+                    "{\"firstName\":\"John\",\"lastName\":\"Doe\"}\n".getBytes(StandardCharsets.UTF_8))).getData().getId();
+            assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+            String queued = service.submit(ImportType.TRAINEES, ImportFormat.NDJSON,
+                    new ByteArrayInputStream(new byte[0])).getData().getId();
+            Thread.sleep(20);
+
+            assertThat(service.getJob(running).getData().getStatus()).isEqualTo(ImportStatus.RUNNING);
+            assertThat(service.getJob(queued).getData().getStatus()).isEqualTo(ImportStatus.QUEUED);
+        } finally {
+            release.countDown();
+            service.destroy();
+        }
+    }
+
+    private ImportJobDTO submit(ImportType type, ImportFormat format, String body) throws Exception {
+        String id = bulkImportService.submit(type, format,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))).getData().getId();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        ImportJobDTO job = bulkImportService.getJob(id).getData();
+        while (job.getFinishedAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            job = bulkImportService.getJob(id).getData();
+        }
+        return job;
+    }
+}
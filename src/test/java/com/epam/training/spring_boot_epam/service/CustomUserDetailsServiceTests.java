@@ -0,0 +1,75 @@
+package com.epam.training.spring_boot_epam.service;
+
+import com.epam.training.spring_boot_epam.event.UserChangedEvent;
+import com.epam.training.spring_boot_epam.exception.DomainException;
+import com.epam.training.spring_boot_epam.repository.UserDao;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
+import com.epam.training.spring_boot_epam.security.UserCacheProperties;
+import com.epam.training.spring_boot_epam.security.service.impl.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTests {
+
+    @Mock
+    private UserDao userDao;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomUserDetailsService userDetailsService;
+    private AuthenticatedUser user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsService = new CustomUserDetailsService(userDao, new UserCacheProperties(), meterRegistry);
+        user = new AuthenticatedUser(1L, "john_doe", "password123", "ROLE_TRAINEE", true);
+    }
+
+    @Test
+    void loadUserByUsername_WhenCalledTwice_ShouldHitDatabaseOnce() {
+        when(userDao.findPrincipalByUsername("john_doe")).thenReturn(Optional.of(user));
+
+        UserDetails first = userDetailsService.loadUserByUsername("john_doe");
+        UserDetails second = userDetailsService.loadUserByUsername("john_doe");
+
+        assertThat(second).isSameAs(first);
+        verify(userDao, times(1)).findPrincipalByUsername("john_doe");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "userDetails").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void onUserChanged_ShouldReloadUserOnNextCall() {
+        when(userDao.findPrincipalByUsername("john_doe")).thenReturn(Optional.of(user));
+
+        userDetailsService.loadUserByUsername("john_doe");
+        userDetailsService.onUserChanged(new UserChangedEvent("john_doe"));
+        userDetailsService.loadUserByUsername("john_doe");
+
+        verify(userDao, times(2)).findPrincipalByUsername("john_doe");
+    }
+
+    @Test
+    void loadUserByUsername_WhenUserMissing_ShouldNotCacheFailure() {
+        when(userDao.findPrincipalByUsername("unknown")).thenReturn(Optional.empty());
+
+        assertThrows(DomainException.class, () -> userDetailsService.loadUserByUsername("unknown"));
+        assertThrows(DomainException.class, () -> userDetailsService.loadUserByUsername("unknown"));
+
+        verify(userDao, times(2)).findPrincipalByUsername("unknown");
+    }
+}
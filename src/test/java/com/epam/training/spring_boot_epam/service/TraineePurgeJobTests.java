@@ -0,0 +1,54 @@
+package com.epam.training.spring_boot_epam.service;
+
+import com.epam.training.spring_boot_epam.config.TraineePurgeProperties;
+import com.epam.training.spring_boot_epam.repository.TraineeDao;
+import com.epam.training.spring_boot_epam.service.impl.TraineePurgeJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TraineePurgeJobTests {
+
+    @Mock
+    private TraineeDao traineeDao;
+
+    private TraineePurgeJob traineePurgeJob;
+
+    @BeforeEach
+    void setUp() {
+        TraineePurgeProperties properties = new TraineePurgeProperties();
+        properties.setBatchSize(2);
+        traineePurgeJob = new TraineePurgeJob(traineeDao, properties);
+    }
+
+    @Test
+    void purge_ShouldDeleteInBatchesUntilLastPartialBatch() {
+        when(traineeDao.findDeactivatedIds(2)).thenReturn(List.of(1L, 2L), List.of(3L));
+        when(traineeDao.deleteAllByIds(List.of(1L, 2L))).thenReturn(2);
+        when(traineeDao.deleteAllByIds(List.of(3L))).thenReturn(1);
+
+        traineePurgeJob.purge();
+
+        verify(traineeDao, times(2)).findDeactivatedIds(2);
+        verify(traineeDao).deleteAllByIds(List.of(1L, 2L));
+        verify(traineeDao).deleteAllByIds(List.of(3L));
+    }
+
+    @Test
+    void purge_WhenNothingDeactivated_ShouldStopAfterOneLookup() {
+        when(traineeDao.findDeactivatedIds(2)).thenReturn(List.of());
+
+        traineePurgeJob.purge();
+
+        verify(traineeDao, times(1)).findDeactivatedIds(2);
+    }
+}
@@ -1,9 +1,6 @@
 package com.epam.training.spring_boot_epam.service;
 
 import com.epam.training.spring_boot_epam.domain.Trainee;
-import com.epam.training.spring_boot_epam.domain.Trainer;
-import com.epam.training.spring_boot_epam.domain.Training;
-import com.epam.training.spring_boot_epam.domain.TrainingType;
 import com.epam.training.spring_boot_epam.domain.User;
 import com.epam.training.spring_boot_epam.dto.TraineeDTO;
 import com.epam.training.spring_boot_epam.dto.TrainerDTO;
@@ -11,18 +8,22 @@ import com.epam.training.spring_boot_epam.dto.request.ActivateDeactiveRequest;
 import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
 import com.epam.training.spring_boot_epam.dto.request.TraineeCreateDTO;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO;
 import com.epam.training.spring_boot_epam.exception.DomainException;
 import com.epam.training.spring_boot_epam.exception.ForbiddenException;
 import com.epam.training.spring_boot_epam.mapper.TraineeMapper;
 import com.epam.training.spring_boot_epam.mapper.TrainerMapper;
 import com.epam.training.spring_boot_epam.repository.TraineeDao;
 import com.epam.training.spring_boot_epam.repository.UserDao;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
+import com.epam.training.spring_boot_epam.service.impl.ActiveTrainerSnapshot;
 import com.epam.training.spring_boot_epam.service.impl.TraineeServiceImpl;
 
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import com.epam.training.spring_boot_epam.util.DomainUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +63,9 @@ class TraineeServiceTests {
     @Mock
     private DomainUtils domainUtils;
 
+    @Mock
+    private ActiveTrainerSnapshot activeTrainerSnapshot;
+
     @InjectMocks
     private TraineeServiceImpl traineeService;
 
@@ -99,8 +103,9 @@ class TraineeServiceTests {
 
     @Test
     void getProfile_WhenTraineeExists_ShouldReturnTraineeDTO() {
-        when(domainUtils.getCurrentUser()).thenReturn(user);
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(user));
         when(traineeDao.findByUsername("john_doe")).thenReturn(Optional.of(trainee));
+        when(traineeDao.findProfileByUsername("john_doe")).thenReturn(Optional.of(trainee));
         TraineeDTO traineeDTO = new TraineeDTO();
         traineeDTO.setFirstName("john_doe");
         when(traineeMapper.toDto(trainee)).thenReturn(traineeDTO);
@@ -115,7 +120,7 @@ class TraineeServiceTests {
 
     @Test
     void getProfile_WhenTraineeDoesNotExist_ShouldThrowDomainException() {
-        when(domainUtils.getCurrentUser()).thenReturn(user);
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(user));
         when(traineeDao.findByUsername("unknown")).thenReturn(Optional.empty());
 
         DomainException exception = assertThrows(DomainException.class, () -> traineeService.getProfile("unknown"));
@@ -126,7 +131,7 @@ class TraineeServiceTests {
     void checkAuthProfile_WithUsername_WhenValid_ShouldNotThrowException() {
         when(traineeDao.findByUsername("john_doe")).thenReturn(Optional.of(trainee));
 
-        traineeService.checkAuthProfile("john_doe", "password123", "john_doe");
+        traineeService.checkAuthProfile("john_doe", "john_doe");
 
         verify(traineeDao, times(1)).findByUsername("john_doe");
     }
@@ -136,7 +141,7 @@ class TraineeServiceTests {
         when(traineeDao.findByUsername("john_doe")).thenReturn(Optional.of(trainee));
 
         ForbiddenException exception = assertThrows(ForbiddenException.class,
-                () -> traineeService.checkAuthProfile("john_doe", "wrongpassword", "john_doe"));
+                () -> traineeService.checkAuthProfile("someone_else", "john_doe"));
         assertThat(exception.getMessage()).isEqualTo("You dont have permission to access this trainee");
     }
 
@@ -144,7 +149,7 @@ class TraineeServiceTests {
     void checkAuthProfile_WithId_WhenValid_ShouldNotThrowException() {
         when(traineeDao.findById(1L)).thenReturn(Optional.of(trainee));
 
-        traineeService.checkAuthProfile("john_doe", "password123", 1L);
+        traineeService.checkAuthProfile("john_doe", 1L);
 
         verify(traineeDao, times(1)).findById(1L);
     }
@@ -154,7 +159,7 @@ class TraineeServiceTests {
         when(traineeDao.findById(1L)).thenReturn(Optional.of(trainee));
 
         ForbiddenException exception = assertThrows(ForbiddenException.class,
-                () -> traineeService.checkAuthProfile("john_doe", "wrongpassword", 1L));
+                () -> traineeService.checkAuthProfile("someone_else", 1L));
         assertThat(exception.getMessage()).isEqualTo("You dont have permission to access this trainee");
     }
 
@@ -219,32 +224,30 @@ class TraineeServiceTests {
 
     @Test
     void getNotAssignedActiveTrainers_WhenTrainersExist_ShouldReturnTrainerDTOs() {
-        Trainer trainer = new Trainer();
-        trainer.setId(2L);
-        User trainerUser = new User("Trainer", "One", true);
-        trainerUser.setUsername("trainer_one");
-        trainer.setUser(trainerUser);
-        trainer.setSpecialization(new TrainingType(1L, "Yoga"));
-        when(traineeDao.findAvailableTrainersForTrainee("john_doe")).thenReturn(List.of(trainer));
+        when(traineeDao.findAssignedTrainerIds("john_doe")).thenReturn(Set.of(3L));
+        when(activeTrainerSnapshot.excluding(Set.of(3L))).thenReturn(List.of(
+                new ActiveTrainerSnapshot.ActiveTrainer(2L, "trainer_one", "Trainer", "One", 1L)));
 
         ApiResponse<List<TrainerDTO>> response = traineeService.getNotAssignedActiveTrainers("john_doe");
 
         assertThat(response.isSuccess()).isTrue();
         assertThat(response.getData()).hasSize(1);
         assertThat(response.getData().get(0).getUsername()).isEqualTo("trainer_one");
+        assertThat(response.getData().get(0).getActive()).isTrue();
+        assertThat(response.getData().get(0).getTrainingTypeId()).isEqualTo(1L);
     }
 
     @Test
     void getTraineeTrainings_ShouldReturnTrainings() {
-        Training training = new Training();
+        TraineeFilterResponseDTO training = new TraineeFilterResponseDTO();
 
-        when(domainUtils.getCurrentUser()).thenReturn(trainee.getUser());
-        when(traineeDao.findTraineeTrainings(eq("john_doe"), anyString(), isNull(), isNull(), isNull(), isNull())).thenReturn(List.of(training));
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(trainee.getUser()));
+        when(traineeDao.findTraineeTrainings(eq("john_doe"), anyString(), isNull(), isNull(), isNull(), isNull(), isNull())).thenReturn(List.of(training));
 
-        List<Training> trainings = traineeService.getTraineeTrainings("john_doe", null, null, null, null);
+        List<TraineeFilterResponseDTO> trainings = traineeService.getTraineeTrainings("john_doe", null, null, null, null);
 
         assertThat(trainings).hasSize(1);
-        verify(traineeDao, times(1)).findTraineeTrainings("john_doe",  "john_doe", null, null, null, null);
+        verify(traineeDao, times(1)).findTraineeTrainings("john_doe",  "john_doe", null, null, null, null, null);
     }
 
     @Test
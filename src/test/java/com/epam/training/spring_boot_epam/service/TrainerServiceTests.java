@@ -1,7 +1,6 @@
 package com.epam.training.spring_boot_epam.service;
 
 import com.epam.training.spring_boot_epam.domain.Trainer;
-import com.epam.training.spring_boot_epam.domain.Training;
 import com.epam.training.spring_boot_epam.domain.TrainingType;
 import com.epam.training.spring_boot_epam.domain.User;
 import com.epam.training.spring_boot_epam.dto.TrainerDTO;
@@ -9,6 +8,7 @@ import com.epam.training.spring_boot_epam.dto.request.ActivateDeactiveRequest;
 import com.epam.training.spring_boot_epam.dto.request.AuthDTO;
 import com.epam.training.spring_boot_epam.dto.request.TrainerCreateDTO;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO;
 import com.epam.training.spring_boot_epam.exception.DomainException;
 import com.epam.training.spring_boot_epam.exception.ForbiddenException;
 import com.epam.training.spring_boot_epam.mapper.TraineeMapper;
@@ -16,6 +16,7 @@ import com.epam.training.spring_boot_epam.mapper.TrainerMapper;
 import com.epam.training.spring_boot_epam.mapper.TrainingTypeMapper;
 import com.epam.training.spring_boot_epam.repository.TrainerDao;
 import com.epam.training.spring_boot_epam.repository.UserDao;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
 import com.epam.training.spring_boot_epam.service.impl.TrainerServiceImpl;
 import com.epam.training.spring_boot_epam.util.DomainUtils;
 import com.epam.training.spring_boot_epam.util.OperationTypes;
@@ -107,7 +108,7 @@ class TrainerServiceTests {
 
     @Test
     void getProfile_WhenTrainerExists_ShouldReturnTrainerDTO() {
-        when(trainerDao.findByUsername("jane_smith")).thenReturn(Optional.of(trainer));
+        when(trainerDao.findProfileByUsername("jane_smith")).thenReturn(Optional.of(trainer));
         TrainerDTO trainerDTO = new TrainerDTO();
         trainerDTO.setUsername("jane_smith");
         when(trainerMapper.toDto(trainer)).thenReturn(trainerDTO);
@@ -123,7 +124,7 @@ class TrainerServiceTests {
 
     @Test
     void getProfile_WhenTrainerDoesNotExist_ShouldThrowDomainException() {
-        when(trainerDao.findByUsername("unknown")).thenReturn(Optional.empty());
+        when(trainerDao.findProfileByUsername("unknown")).thenReturn(Optional.empty());
 
         DomainException exception = assertThrows(DomainException.class, () -> trainerService.getProfile("unknown"));
         assertThat(exception.getMessage()).isEqualTo("Trainer not found: unknown");
@@ -133,7 +134,7 @@ class TrainerServiceTests {
     void checkAuthProfile_WithUsername_WhenValid_ShouldNotThrowException() {
         when(trainerDao.findByUsername("jane_smith")).thenReturn(Optional.of(trainer));
 
-        trainerService.checkAuthProfile("jane_smith", "password123", "jane_smith");
+        trainerService.checkAuthProfile("jane_smith", "jane_smith");
 
         verify(trainerDao, times(1)).findByUsername("jane_smith");
     }
@@ -143,7 +144,7 @@ class TrainerServiceTests {
         when(trainerDao.findByUsername("jane_smith")).thenReturn(Optional.of(trainer));
 
         ForbiddenException exception = assertThrows(ForbiddenException.class,
-                () -> trainerService.checkAuthProfile("jane_smith", "wrongpassword", "jane_smith"));
+                () -> trainerService.checkAuthProfile("someone_else", "jane_smith"));
         assertThat(exception.getMessage()).isEqualTo("You dont have permission to access this trainer");
     }
 
@@ -151,7 +152,7 @@ class TrainerServiceTests {
     void checkAuthProfile_WithId_WhenValid_ShouldNotThrowException() {
         when(trainerDao.findById(1L)).thenReturn(Optional.of(trainer));
 
-        trainerService.checkAuthProfile("jane_smith", "password123", 1L);
+        trainerService.checkAuthProfile("jane_smith", 1L);
 
         verify(trainerDao, times(1)).findById(1L);
     }
@@ -161,7 +162,7 @@ class TrainerServiceTests {
         when(trainerDao.findById(1L)).thenReturn(Optional.of(trainer));
 
         ForbiddenException exception = assertThrows(ForbiddenException.class,
-                () -> trainerService.checkAuthProfile("jane_smith", "wrongpassword", 1L));
+                () -> trainerService.checkAuthProfile("someone_else", 1L));
         assertThat(exception.getMessage()).isEqualTo("You dont have permission to access this trainer");
     }
 
@@ -241,16 +242,16 @@ class TrainerServiceTests {
 
     @Test
     void getTrainerTrainings_WhenAuthenticated_ShouldReturnTrainings() {
-        Training training = new Training();
-        when(domainUtils.getCurrentUser()).thenReturn(trainer.getUser());
+        TrainerFilterResponseDTO training = new TrainerFilterResponseDTO();
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(trainer.getUser()));
 
         when(trainerDao.findByUsername("jane_smith")).thenReturn(Optional.of(trainer));
-        when(trainerDao.findTrainerTrainings("jane_smith", "jane_smith", null, null, null)).thenReturn(List.of(training));
+        when(trainerDao.findTrainerTrainings("jane_smith", null, null, null, null)).thenReturn(List.of(training));
 
-        List<Training> trainings = trainerService.getTrainerTrainings("jane_smith", null, null, null);
+        List<TrainerFilterResponseDTO> trainings = trainerService.getTrainerTrainings("jane_smith", null, null, null);
 
         assertThat(trainings).hasSize(1);
-        verify(trainerDao, times(1)).findTrainerTrainings("jane_smith", "jane_smith", null, null, null);
+        verify(trainerDao, times(1)).findTrainerTrainings("jane_smith", null, null, null, null);
     }
 
     @Test
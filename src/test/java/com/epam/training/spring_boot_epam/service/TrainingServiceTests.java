@@ -6,9 +6,13 @@ import com.epam.training.spring_boot_epam.domain.Trainer;
 import com.epam.training.spring_boot_epam.domain.Training;
 import com.epam.training.spring_boot_epam.domain.TrainingType;
 import com.epam.training.spring_boot_epam.domain.User;
+import com.epam.training.spring_boot_epam.dto.TrainingDTO;
 import com.epam.training.spring_boot_epam.dto.filters.TraineeTrainingsFilter;
 import com.epam.training.spring_boot_epam.dto.filters.TrainerTrainingsFilter;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingCursor;
+import com.epam.training.spring_boot_epam.dto.filters.TrainingPageRequest;
 import com.epam.training.spring_boot_epam.dto.response.ApiResponse;
+import com.epam.training.spring_boot_epam.dto.response.CursorPage;
 import com.epam.training.spring_boot_epam.dto.response.TraineeFilterResponseDTO;
 import com.epam.training.spring_boot_epam.dto.response.TrainerFilterResponseDTO;
 import com.epam.training.spring_boot_epam.exception.AuthorizationException;
@@ -17,30 +21,40 @@ import com.epam.training.spring_boot_epam.repository.TraineeDao;
 import com.epam.training.spring_boot_epam.repository.TrainerDao;
 import com.epam.training.spring_boot_epam.repository.TrainingDao;
 import com.epam.training.spring_boot_epam.repository.UserDao;
+import com.epam.training.spring_boot_epam.security.AuthenticatedUser;
 import com.epam.training.spring_boot_epam.service.impl.TrainingServiceImpl;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.epam.training.spring_boot_epam.util.DomainUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class TrainingServiceTests {
 
+    private static final TrainingPageRequest FIRST_PAGE = TrainingPageRequest.of(null, null, null);
+
     @Mock
     private TrainingDao trainingDao;
     @Mock
@@ -58,12 +72,17 @@ class TrainingServiceTests {
     @Mock
     private DomainUtils domainUtils;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private TrainingServiceImpl trainingService;
 
     private Trainee trainee;
     private Trainer trainer;
     private Training training;
+    private TraineeFilterResponseDTO traineeRow;
+    private TrainerFilterResponseDTO trainerRow;
     private TrainingType trainingType;
 
     @BeforeEach
@@ -91,70 +110,123 @@ class TrainingServiceTests {
         training.setTrainee(trainee);
         training.setTrainer(trainer);
         training.setTrainingType(trainingType);
+
+        traineeRow = new TraineeFilterResponseDTO(1L, "Jane", "Morning Yoga", "Yoga", training.getTrainingDateTime(), 1);
+        trainerRow = new TrainerFilterResponseDTO(1L, "John", "Morning Yoga", "Yoga", training.getTrainingDateTime(), 1);
     }
 
     @Test
     void getTraineeTrainings_WhenTrainingsExist_ShouldReturnTraineeFilterResponseDTOs() {
-        TraineeTrainingsFilter filter = new TraineeTrainingsFilter("john_doe", null, null, "Jane", "Yoga");
+        TraineeTrainingsFilter filter = new TraineeTrainingsFilter("john_doe", null, null, "Jane", "Yoga", null, null, null);
 //        when(userDao.findByUsername("john_doe")).thenReturn(Optional.of(trainee.getUser()));
-        when(traineeDao.findTraineeTrainings("john_doe", "john_doe", null, null, "Jane", "Yoga")).thenReturn(List.of(training));
-        when(domainUtils.getCurrentUser()).thenReturn(trainee.getUser());
+        when(traineeDao.findTraineeTrainings("john_doe", "john_doe", null, null, "Jane", "Yoga", FIRST_PAGE)).thenReturn(List.of(traineeRow));
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(trainee.getUser()));
 
-        ApiResponse<List<TraineeFilterResponseDTO>> response =
+        ApiResponse<CursorPage<TraineeFilterResponseDTO>> response =
                 trainingService.getTraineeTrainings(filter);
 
         assertThat(response.isSuccess()).isTrue();
-        assertThat(response.getData()).hasSize(1);
-        TraineeFilterResponseDTO dto = response.getData().get(0);
+        assertThat(response.getData().getItems()).hasSize(1);
+        TraineeFilterResponseDTO dto = response.getData().getItems().get(0);
         assertThat(dto.getTrainingName()).isEqualTo("Morning Yoga");
-        verify(traineeDao).findTraineeTrainings("john_doe", "john_doe",null, null, "Jane", "Yoga");
+        verify(traineeDao).findTraineeTrainings("john_doe", "john_doe",null, null, "Jane", "Yoga", FIRST_PAGE);
     }
 
     @Test
     void getTraineeTrainings_WhenNoTrainingsExist_ShouldReturnEmptyList() {
-        TraineeTrainingsFilter filter = new TraineeTrainingsFilter("john_doe", null, null, null, null);
+        TraineeTrainingsFilter filter = new TraineeTrainingsFilter("john_doe", null, null, null, null, null, null, null);
 //        when(userDao.findByUsername("john_doe")).thenReturn(Optional.of(trainee.getUser()));
-        when(traineeDao.findTraineeTrainings("john_doe", "john_doe",null, null, null, null)).thenReturn(Collections.emptyList());
-        when(domainUtils.getCurrentUser()).thenReturn(trainee.getUser());
+        when(traineeDao.findTraineeTrainings("john_doe", "john_doe",null, null, null, null, FIRST_PAGE)).thenReturn(Collections.emptyList());
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(trainee.getUser()));
 
-        ApiResponse<List<TraineeFilterResponseDTO>> response =
+        ApiResponse<CursorPage<TraineeFilterResponseDTO>> response =
                 trainingService.getTraineeTrainings(filter);
 
         assertThat(response.isSuccess()).isTrue();
-        assertThat(response.getData()).isEmpty();
-        verify(traineeDao).findTraineeTrainings("john_doe", "john_doe",null, null, null, null);
+        assertThat(response.getData().getItems()).isEmpty();
+        verify(traineeDao).findTraineeTrainings("john_doe", "john_doe",null, null, null, null, FIRST_PAGE);
     }
 
     @Test
     void getTrainerTrainings_WhenTrainingsExist_ShouldReturnTrainerFilterResponseDTOs() {
-        TrainerTrainingsFilter filter = new TrainerTrainingsFilter("jane_smith", null, null, "John");
-        when(domainUtils.getCurrentUser()).thenReturn(trainer.getUser());
+        TrainerTrainingsFilter filter = new TrainerTrainingsFilter("jane_smith", null, null, "John", null, null, null);
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(trainer.getUser()));
 
 //        when(userDao.findByUsername("jane_smith")).thenReturn(Optional.of(trainer.getUser()));
-        when(trainerDao.findTrainerTrainings("jane_smith", "jane_smith",null, null, "John")).thenReturn(List.of(training));
+        when(trainerDao.findTrainerTrainings("jane_smith", null, null, "John", FIRST_PAGE)).thenReturn(List.of(trainerRow));
 
-        ApiResponse<List<TrainerFilterResponseDTO>> response =
+        ApiResponse<CursorPage<TrainerFilterResponseDTO>> response =
                 trainingService.getTrainerTrainings(filter);
 
         assertThat(response.isSuccess()).isTrue();
-        assertThat(response.getData()).hasSize(1);
-        TrainerFilterResponseDTO dto = response.getData().get(0);
+        assertThat(response.getData().getItems()).hasSize(1);
+        TrainerFilterResponseDTO dto = response.getData().getItems().get(0);
         assertThat(dto.getTraineeFirstname()).isEqualTo("John");
-        verify(trainerDao).findTrainerTrainings("jane_smith", "jane_smith",null, null, "John");
+        verify(trainerDao).findTrainerTrainings("jane_smith", null, null, "John", FIRST_PAGE);
     }
 
     @Test
     void getTrainerTrainings_WhenNoTrainingsExist_ShouldReturnEmptyList() {
-        TrainerTrainingsFilter filter = new TrainerTrainingsFilter("jane_smith", null, null, null);
+        TrainerTrainingsFilter filter = new TrainerTrainingsFilter("jane_smith", null, null, null, null, null, null);
 //        when(userDao.findByUsername("jane_smith")).thenReturn(Optional.of(trainer.getUser()));
-        when(trainerDao.findTrainerTrainings("jane_smith", "jane_smith",null, null, null)).thenReturn(Collections.emptyList());
-        when(domainUtils.getCurrentUser()).thenReturn(trainer.getUser());
+        when(trainerDao.findTrainerTrainings("jane_smith", null, null, null, FIRST_PAGE)).thenReturn(Collections.emptyList());
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(trainer.getUser()));
 
-        ApiResponse<List<TrainerFilterResponseDTO>> response =
+        ApiResponse<CursorPage<TrainerFilterResponseDTO>> response =
                 trainingService.getTrainerTrainings(filter);
 
         assertThat(response.isSuccess()).isTrue();
-        assertThat(response.getData()).isEmpty();
-        verify(trainerDao).findTrainerTrainings("jane_smith", "jane_smith",null, null, null);
+        assertThat(response.getData().getItems()).isEmpty();
+        verify(trainerDao).findTrainerTrainings("jane_smith", null, null, null, FIRST_PAGE);
+    }
+
+    @Test
+    void getTraineeTrainings_WhenMoreRowsThanLimit_ShouldReturnNextCursor() {
+        TraineeTrainingsFilter filter = new TraineeTrainingsFilter("john_doe", null, null, null, null, null, 1, Sort.Direction.DESC);
+        TrainingPageRequest page = TrainingPageRequest.of(null, Sort.Direction.DESC, 1);
+        TraineeFilterResponseDTO olderRow = new TraineeFilterResponseDTO(2L, "Jane", "Evening Yoga", "Yoga", traineeRow.getTrainingDateTime().minusDays(1), 1);
+        when(traineeDao.findTraineeTrainings("john_doe", "john_doe", null, null, null, null, page)).thenReturn(List.of(traineeRow, olderRow));
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(trainee.getUser()));
+
+        ApiResponse<CursorPage<TraineeFilterResponseDTO>> response =
+                trainingService.getTraineeTrainings(filter);
+
+        assertThat(response.getData().getItems()).containsExactly(traineeRow);
+        assertThat(TrainingCursor.decode(response.getData().getNextCursor()))
+                .isEqualTo(new TrainingCursor(traineeRow.getTrainingDateTime(), traineeRow.getId()));
+    }
+
+    @Test
+    void streamTraineeTrainings_ShouldWriteOneJsonLinePerRow() throws Exception {
+        TraineeTrainingsFilter filter = new TraineeTrainingsFilter("john_doe", null, null, null, null, null, null, null);
+        when(traineeDao.streamTraineeTrainings("john_doe", null, null, null, null)).thenReturn(Stream.of(traineeRow, traineeRow));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        trainingService.streamTraineeTrainings(filter, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"trainingName\":\"Morning Yoga\"");
+    }
+
+    @Test
+    void addTraining_ShouldSaveTrainingAndLinkTrainerOnlyOnTraineeSide() {
+        TrainingDTO dto = new TrainingDTO(null, "jane_smith", "john_doe", "Morning Yoga",
+                training.getTrainingDateTime(), 1);
+        Training newTraining = new Training();
+        when(userDao.findByUsername("jane_smith")).thenReturn(Optional.of(trainer.getUser()));
+        when(domainUtils.getCurrentUser()).thenReturn(AuthenticatedUser.of(trainer.getUser()));
+        when(trainingMapper.toEntity(dto)).thenReturn(newTraining);
+        when(traineeService.getByUsername("john_doe")).thenReturn(trainee);
+        when(trainerService.getByUsername("jane_smith")).thenReturn(trainer);
+        when(trainingDao.save(newTraining)).thenReturn(newTraining);
+
+        ApiResponse<Void> response = trainingService.addTraining(dto);
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(newTraining.getTrainingType()).isEqualTo(trainingType);
+        assertThat(trainee.getTrainers()).containsExactly(trainer);
+        verify(traineeDao).update(trainee);
+        verifyNoInteractions(trainerDao);
     }
-}
\ No newline at end of file
+}